@@ -0,0 +1,72 @@
+package com.nptechon.smartamp.tcp.protocol.payload;
+
+import com.nptechon.smartamp.tcp.protocol.LogInfoDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 0x85 로그 payload 파싱 + 최근 7일 필터 + 최신순 정렬
+ * - dto     : 기존 방식 (전 항목 LogInfoDto + LocalDateTime, stream/Comparator)
+ * - columns : primitive 컬럼 필터/정렬 후 반환 항목만 DTO 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LogPayloadParserBenchmark {
+
+    private static final int DAYS = 7;
+
+    @Param({ "100", "150", "200" })
+    public int entries;
+
+    private byte[] payload;
+    private LocalDateTime now;
+
+    @Setup
+    public void setup() {
+        Random r = new Random(42);
+        now = LocalDateTime.of(2026, 3, 15, 12, 0, 0);
+
+        payload = new byte[1 + entries * LogPayloadParser.RECORD_SIZE];
+        payload[0] = (byte) entries;
+
+        int off = 1;
+        for (int i = 0; i < entries; i++) {
+            // 최근 30일 안에 고르게 분포 → 약 1/4 이 7일 구간에 들어감
+            LocalDateTime t = now.minusSeconds(r.nextInt(30 * 86_400));
+            payload[off] = (byte) (i % 100);
+            payload[off + 1] = (byte) (1 + r.nextInt(6));
+            payload[off + 2] = (byte) (t.getYear() - 2000);
+            payload[off + 3] = (byte) t.getMonthValue();
+            payload[off + 4] = (byte) t.getDayOfMonth();
+            payload[off + 5] = (byte) t.getDayOfWeek().getValue();
+            payload[off + 6] = (byte) t.getHour();
+            payload[off + 7] = (byte) t.getMinute();
+            payload[off + 8] = (byte) t.getSecond();
+            off += LogPayloadParser.RECORD_SIZE;
+        }
+    }
+
+    @Benchmark
+    public List<LogInfoDto> dto() {
+        LocalDateTime from = now.minusDays(DAYS);
+        return LogPayloadParser.parseLogResponsePayload(payload).stream()
+                .filter(li -> li.getDateTime() != null)
+                .filter(li -> !li.getDateTime().isBefore(from) && !li.getDateTime().isAfter(now))
+                .sorted(Comparator.comparing(LogInfoDto::getDateTime).reversed())
+                .toList();
+    }
+
+    @Benchmark
+    public List<LogInfoDto> columns() {
+        LocalDateTime from = now.minusDays(DAYS);
+        return LogPayloadParser.parseColumns(payload)
+                .recentDescending(from.toEpochSecond(ZoneOffset.UTC), now.toEpochSecond(ZoneOffset.UTC));
+    }
+}
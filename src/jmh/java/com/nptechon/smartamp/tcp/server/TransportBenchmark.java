@@ -0,0 +1,132 @@
+package com.nptechon.smartamp.tcp.server;
+
+import com.nptechon.smartamp.tcp.codec.CommandPacketCodec;
+import com.nptechon.smartamp.tcp.protocol.AmpOpcode;
+import com.nptechon.smartamp.tcp.protocol.DateTime7;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * transport 별 loopback 비교
+ * - connect   : TCP 연결 수립 + close (재접속 폭주 시 accept 비용)
+ * - roundTrip : 명령 프레임(0x06, 14B) 전송 → 서버 echo 수신까지
+ * 해당 transport 를 못 쓰는 환경(macOS, io_uring 차단 컨테이너 등)에서는 setup 에서 실패로 표시된다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransportBenchmark {
+
+    @Param({ "nio", "epoll", "io_uring" })
+    public String transport;
+
+    private EventLoopGroup serverGroup;
+    private EventLoopGroup clientGroup;
+    private Channel server;
+    private Bootstrap client;
+    private Channel clientChannel;
+    private InetSocketAddress address;
+
+    private ByteBuf frame;
+    private int frameLength;
+    private volatile CompletableFuture<Void> reply;
+
+    @Setup
+    public void setup() throws InterruptedException {
+        NettyTransport t = NettyTransport.resolve(transport);
+        if (!t.name().equalsIgnoreCase(transport)) {
+            throw new IllegalStateException(transport + " unavailable on this host");
+        }
+
+        serverGroup = new MultiThreadIoEventLoopGroup(1, t.ioHandlerFactory());
+        clientGroup = new MultiThreadIoEventLoopGroup(1, t.ioHandlerFactory());
+
+        server = new ServerBootstrap()
+                .group(serverGroup)
+                .channel(t.serverChannelClass())
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                .childHandler(new EchoHandler())
+                .bind(new InetSocketAddress("127.0.0.1", 0)).sync().channel();
+        address = (InetSocketAddress) server.localAddress();
+
+        frame = Unpooled.unreleasableBuffer(CommandPacketCodec.encode(
+                ByteBufAllocator.DEFAULT, 1, DateTime7.now(), AmpOpcode.AMP_STATUS_REQUEST, new byte[0]));
+        frameLength = frame.readableBytes();
+
+        client = new Bootstrap()
+                .group(clientGroup)
+                .channel(t.socketChannelClass())
+                .option(ChannelOption.TCP_NODELAY, true)
+                // connect 벤치마크에서 채널을 계속 새로 만들므로 채널마다 새 핸들러
+                .handler(new ChannelInitializer<>() {
+                    @Override
+                    protected void initChannel(Channel ch) {
+                        ch.pipeline().addLast(new ReplyHandler());
+                    }
+                });
+        clientChannel = client.connect(address).sync().channel();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (clientChannel != null) clientChannel.close().syncUninterruptibly();
+        if (server != null) server.close().syncUninterruptibly();
+        if (clientGroup != null) clientGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+        if (serverGroup != null) serverGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+    }
+
+    @Benchmark
+    public void connect() throws InterruptedException {
+        Channel ch = client.connect(address).sync().channel();
+        ch.close().sync();
+    }
+
+    @Benchmark
+    public void roundTrip() {
+        CompletableFuture<Void> f = new CompletableFuture<>();
+        reply = f;
+        clientChannel.writeAndFlush(frame.duplicate());
+        f.join();
+    }
+
+    // 받은 그대로 돌려보냄 (모든 연결 공용)
+    @ChannelHandler.Sharable
+    private static final class EchoHandler extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            ctx.writeAndFlush(msg);
+        }
+    }
+
+    // echo 가 프레임 길이만큼 모이면 응답 완료
+    private final class ReplyHandler extends ChannelInboundHandlerAdapter {
+        private int received;
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            ByteBuf buf = (ByteBuf) msg;
+            received += buf.readableBytes();
+            buf.release();
+            if (received >= frameLength) {
+                received -= frameLength;
+                reply.complete(null);
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.nptechon.smartamp;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @ConfigurationPropertiesScan
@@ -9,7 +10,14 @@ import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 public class SmartampApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(SmartampApplication.class, args);
+		SpringApplication app = new SpringApplication(SmartampApplication.class);
+
+		// 빈 생성 구간만 버퍼링해서 기동 리포트(StartupReport)에 사용
+		BufferingApplicationStartup startup = new BufferingApplicationStartup(4096);
+		startup.addFilter(step -> step.getName().equals("spring.beans.instantiate"));
+		app.setApplicationStartup(startup);
+
+		app.run(args);
 	}
 
 }
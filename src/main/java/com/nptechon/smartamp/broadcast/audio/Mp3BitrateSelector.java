@@ -0,0 +1,63 @@
+package com.nptechon.smartamp.broadcast.audio;
+
+import com.nptechon.smartamp.global.config.Mp3BitrateProperties;
+import com.nptechon.smartamp.tcp.codec.FileFrameEncoder;
+import com.nptechon.smartamp.tcp.server.link.LinkEstimator;
+import com.nptechon.smartamp.tcp.server.sender.FileSender;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalDouble;
+
+/**
+ * 앰프별 MP3 bitrate 선택
+ *
+ * 오디오 1초 분량을 보내는 데 걸리는 시간:
+ *   frames/s = (kbps * 1000 / 8) / 508
+ *   sec      = frames/s * (512 / throughput + pacing)
+ * sec * headroom <= 1 이면 재생이 끝나기 전에 전송이 끝난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class Mp3BitrateSelector {
+
+    private final Mp3BitrateProperties props;
+    private final LinkEstimator linkEstimator;
+
+    public int select(int ampId) {
+        // 앰프 도착 기준 측정값, EWMA 와 p50 중 낮은 쪽
+        OptionalDouble thr = linkEstimator.conservativeThroughputBytesPerSec(ampId, props.getMinSamples());
+        if (thr.isEmpty()) {
+            log.info("[AUDIO][BITRATE] ampId={} link samples < {} -> default {}k",
+                    ampId, props.getMinSamples(), props.getDefaultKbps());
+            return props.getDefaultKbps();
+        }
+
+        List<Integer> tiers = props.getTiersKbps().stream()
+                .sorted(Comparator.reverseOrder())
+                .toList();
+
+        double perFrameSec = FileFrameEncoder.FRAME_SIZE / thr.getAsDouble()
+                + FileSender.REALTIME_PACING_MS / 1000.0;
+
+        for (int kbps : tiers) {
+            double framesPerSec = (kbps * 1000.0 / 8) / FileFrameEncoder.DATA_SIZE;
+            double sendSecPerAudioSec = framesPerSec * perFrameSec;
+            if (sendSecPerAudioSec * props.getHeadroom() <= 1.0) {
+                log.info("[AUDIO][BITRATE] ampId={} throughput={}B/s -> {}k (ratio={})",
+                        ampId, (long) thr.getAsDouble(), kbps, String.format("%.2f", sendSecPerAudioSec));
+                return kbps;
+            }
+        }
+
+        // 어떤 tier 도 만족 못하면 가장 작은 값
+        int lowest = tiers.isEmpty() ? props.getDefaultKbps() : tiers.get(tiers.size() - 1);
+        log.warn("[AUDIO][BITRATE] ampId={} throughput={}B/s too slow -> lowest {}k",
+                ampId, (long) thr.getAsDouble(), lowest);
+        return lowest;
+    }
+}
@@ -0,0 +1,138 @@
+package com.nptechon.smartamp.broadcast.audio;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+/**
+ * MP3(MPEG Layer III) 프레임 헤더 유틸
+ * - ID3v2 / ID3v1 태그, Xing/Info 프레임 제거
+ * - 프레임 경계 기준으로 여러 MP3 이어붙이기
+ * - 프레임 헤더 합산으로 재생 길이 계산
+ */
+public final class Mp3FrameUtil {
+
+    private Mp3FrameUtil() {}
+
+    private static final int[] BITRATE_V1 = { 0, 32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320 };
+    private static final int[] BITRATE_V2 = { 0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160 };
+
+    private static final int[] SAMPLE_RATE_V1 = { 44100, 48000, 32000 };
+    private static final int[] SAMPLE_RATE_V2 = { 22050, 24000, 16000 };
+    private static final int[] SAMPLE_RATE_V25 = { 11025, 12000, 8000 };
+
+    /**
+     * off 위치의 Layer III 프레임 길이. 유효한 헤더가 아니면 -1
+     */
+    public static int frameLength(byte[] b, int off) {
+        if (off + 4 > b.length) return -1;
+        if ((b[off] & 0xFF) != 0xFF || (b[off + 1] & 0xE0) != 0xE0) return -1;
+
+        int version = (b[off + 1] >> 3) & 0x03;   // 0=2.5, 1=reserved, 2=2, 3=1
+        int layer = (b[off + 1] >> 1) & 0x03;     // 1=Layer III
+        int bitrateIdx = (b[off + 2] >> 4) & 0x0F;
+        int srIdx = (b[off + 2] >> 2) & 0x03;
+        int padding = (b[off + 2] >> 1) & 0x01;
+
+        if (version == 1 || layer != 1 || bitrateIdx == 0 || bitrateIdx == 15 || srIdx == 3) return -1;
+
+        int bitrate = ((version == 3) ? BITRATE_V1 : BITRATE_V2)[bitrateIdx] * 1000;
+        int sampleRate = sampleRate(version, srIdx);
+        int coeff = (version == 3) ? 144 : 72;
+
+        return coeff * bitrate / sampleRate + padding;
+    }
+
+    private static int sampleRate(int version, int srIdx) {
+        return switch (version) {
+            case 3 -> SAMPLE_RATE_V1[srIdx];
+            case 2 -> SAMPLE_RATE_V2[srIdx];
+            default -> SAMPLE_RATE_V25[srIdx];
+        };
+    }
+
+    private static int samplesPerFrame(int version) {
+        return (version == 3) ? 1152 : 576;
+    }
+
+    /**
+     * 프레임 헤더를 따라가며 재생 길이(ms) 계산
+     */
+    public static long durationMs(byte[] mp3) {
+        if (mp3 == null) return 0;
+
+        double ms = 0;
+        int off = skipId3v2(mp3);
+        int end = audioEnd(mp3);
+        while (off < end) {
+            int len = frameLength(mp3, off);
+            if (len <= 0) {
+                off++; // sync 재탐색
+                continue;
+            }
+            int version = (mp3[off + 1] >> 3) & 0x03;
+            int srIdx = (mp3[off + 2] >> 2) & 0x03;
+            if (!isXingFrame(mp3, off)) {
+                ms += samplesPerFrame(version) * 1000.0 / sampleRate(version, srIdx);
+            }
+            off += len;
+        }
+        return Math.round(ms);
+    }
+
+    /**
+     * 각 MP3 에서 태그/Xing 프레임을 빼고 오디오 프레임만 순서대로 이어붙인다
+     */
+    public static byte[] concat(List<byte[]> segments) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] seg : segments) {
+            if (seg == null) continue;
+
+            int off = skipId3v2(seg);
+            int end = audioEnd(seg);
+            while (off < end) {
+                int len = frameLength(seg, off);
+                if (len <= 0) {
+                    off++;
+                    continue;
+                }
+                int copy = Math.min(len, end - off);
+                if (!isXingFrame(seg, off)) {
+                    out.write(seg, off, copy);
+                }
+                off += len;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static int skipId3v2(byte[] b) {
+        if (b.length < 10 || b[0] != 'I' || b[1] != 'D' || b[2] != '3') return 0;
+        // syncsafe integer (7bit * 4)
+        int size = ((b[6] & 0x7F) << 21) | ((b[7] & 0x7F) << 14) | ((b[8] & 0x7F) << 7) | (b[9] & 0x7F);
+        boolean footer = (b[5] & 0x10) != 0;
+        return Math.min(b.length, 10 + size + (footer ? 10 : 0));
+    }
+
+    // 끝의 ID3v1 "TAG"(128B) 제외
+    private static int audioEnd(byte[] b) {
+        int n = b.length;
+        if (n >= 128 && b[n - 128] == 'T' && b[n - 127] == 'A' && b[n - 126] == 'G') {
+            return n - 128;
+        }
+        return n;
+    }
+
+    // 인코더가 첫 프레임에 넣는 Xing/Info(VBR/gapless) 헤더 프레임
+    private static boolean isXingFrame(byte[] b, int off) {
+        int version = (b[off + 1] >> 3) & 0x03;
+        boolean mono = ((b[off + 3] >> 6) & 0x03) == 3;
+        boolean crc = (b[off + 1] & 0x01) == 0;
+
+        int sideInfo = (version == 3) ? (mono ? 17 : 32) : (mono ? 9 : 17);
+        int tag = off + 4 + (crc ? 2 : 0) + sideInfo;
+        if (tag + 4 > b.length) return false;
+
+        return (b[tag] == 'X' && b[tag + 1] == 'i' && b[tag + 2] == 'n' && b[tag + 3] == 'g')
+                || (b[tag] == 'I' && b[tag + 1] == 'n' && b[tag + 2] == 'f' && b[tag + 3] == 'o');
+    }
+}
@@ -0,0 +1,166 @@
+package com.nptechon.smartamp.broadcast.audio;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * WAV(PCM) 앞/뒤 무음 구간 제거
+ * - RIFF 헤더에서 fmt/data 청크를 찾아 PCM 8/16bit 만 처리
+ * - windowMs 단위 peak 가 threshold 를 넘는 첫/마지막 윈도우 기준으로 자르고 paddingMs 만큼 여유를 남김
+ * - 지원하지 않는 포맷이면 원본 그대로 반환 (applied=false)
+ */
+@Slf4j
+public final class WavSilenceTrimmer {
+
+    private static final int PCM = 1;
+    private static final int EXTENSIBLE = 0xFFFE;
+
+    private WavSilenceTrimmer() {}
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final byte[] wav;
+        private final boolean applied;
+        private final int sampleRate;   // 0 = 헤더 해석 실패
+        private final long originalMs;
+        private final long trimmedMs;   // 잘라낸 길이 (앞+뒤)
+    }
+
+    public static Result trim(byte[] wav, double thresholdDb, int windowMs, int paddingMs) {
+        if (wav == null || wav.length < 12
+                || !"RIFF".equals(ascii(wav, 0)) || !"WAVE".equals(ascii(wav, 8))) {
+            return new Result(wav, false, 0, 0, 0);
+        }
+
+        ByteBuffer bb = ByteBuffer.wrap(wav).order(ByteOrder.LITTLE_ENDIAN);
+
+        int format = -1, channels = 0, sampleRate = 0, blockAlign = 0, bits = 0;
+        int dataOff = -1, dataLen = 0;
+
+        // RIFF 청크 순회
+        int off = 12;
+        while (off + 8 <= wav.length) {
+            String id = ascii(wav, off);
+            long size = bb.getInt(off + 4) & 0xFFFFFFFFL;
+            int body = off + 8;
+
+            if ("fmt ".equals(id) && body + 16 <= wav.length) {
+                format = bb.getShort(body) & 0xFFFF;
+                channels = bb.getShort(body + 2) & 0xFFFF;
+                sampleRate = bb.getInt(body + 4);
+                blockAlign = bb.getShort(body + 12) & 0xFFFF;
+                bits = bb.getShort(body + 14) & 0xFFFF;
+            } else if ("data".equals(id)) {
+                dataOff = body;
+                // 스트리밍 녹음은 size 가 0 / 0xFFFFFFFF 로 들어오는 경우가 있어 실제 남은 길이로 보정
+                long remain = wav.length - body;
+                dataLen = (int) ((size == 0 || size > remain) ? remain : size);
+                break;
+            }
+
+            off = (int) Math.min((long) body + size + (size & 1), wav.length);
+        }
+
+        boolean pcm = (format == PCM || format == EXTENSIBLE) && (bits == 8 || bits == 16);
+        if (!pcm || dataOff < 0 || channels <= 0 || sampleRate <= 0 || blockAlign != channels * bits / 8) {
+            log.info("[AUDIO][TRIM] unsupported wav -> skip format={} bits={} channels={}", format, bits, channels);
+            return new Result(wav, false, sampleRate, 0, 0);
+        }
+
+        int totalFrames = dataLen / blockAlign;
+        long originalMs = totalFrames * 1000L / sampleRate;
+
+        int window = Math.max(1, sampleRate * windowMs / 1000);
+        int padding = sampleRate * paddingMs / 1000;
+        int threshold = (int) Math.round(((bits == 16) ? 32768 : 128) * Math.pow(10, thresholdDb / 20.0));
+
+        int first = -1;
+        for (int f = 0; f < totalFrames; f += window) {
+            if (peak(bb, dataOff, f, Math.min(window, totalFrames - f), channels, bits) > threshold) {
+                first = f;
+                break;
+            }
+        }
+        if (first < 0) {
+            // 전부 무음이면 자르지 않음 (빈 방송 방지)
+            log.info("[AUDIO][TRIM] all silent -> skip durationMs={}", originalMs);
+            return new Result(wav, false, sampleRate, originalMs, 0);
+        }
+
+        int last = first;
+        for (int f = ((totalFrames - 1) / window) * window; f > first; f -= window) {
+            int n = Math.min(window, totalFrames - f);
+            if (peak(bb, dataOff, f, n, channels, bits) > threshold) {
+                last = f + n;
+                break;
+            }
+        }
+        if (last == first) last = Math.min(totalFrames, first + window);
+
+        int start = Math.max(0, first - padding);
+        int end = Math.min(totalFrames, last + padding);
+        int keptFrames = end - start;
+
+        if (keptFrames == totalFrames) {
+            return new Result(wav, false, sampleRate, originalMs, 0);
+        }
+
+        byte[] out = writeWav(wav, dataOff + start * blockAlign, keptFrames * blockAlign,
+                channels, sampleRate, bits, blockAlign);
+        long trimmedMs = (totalFrames - keptFrames) * 1000L / sampleRate;
+
+        return new Result(out, true, sampleRate, originalMs, trimmedMs);
+    }
+
+    private static int peak(ByteBuffer bb, int dataOff, int frame, int frames, int channels, int bits) {
+        int max = 0;
+        int samples = frames * channels;
+        if (bits == 16) {
+            int p = dataOff + frame * channels * 2;
+            for (int i = 0; i < samples; i++, p += 2) {
+                int v = Math.abs((int) bb.getShort(p));
+                if (v > max) max = v;
+            }
+        } else {
+            // 8bit PCM 은 unsigned (128 = 0)
+            int p = dataOff + frame * channels;
+            for (int i = 0; i < samples; i++, p++) {
+                int v = Math.abs((bb.get(p) & 0xFF) - 128);
+                if (v > max) max = v;
+            }
+        }
+        return max;
+    }
+
+    // 표준 44바이트 PCM 헤더 + data
+    private static byte[] writeWav(byte[] src, int off, int len,
+                                   int channels, int sampleRate, int bits, int blockAlign) {
+        ByteBuffer out = ByteBuffer.allocate(44 + len).order(ByteOrder.LITTLE_ENDIAN);
+        out.put("RIFF".getBytes(StandardCharsets.US_ASCII));
+        out.putInt(36 + len);
+        out.put("WAVE".getBytes(StandardCharsets.US_ASCII));
+        out.put("fmt ".getBytes(StandardCharsets.US_ASCII));
+        out.putInt(16);
+        out.putShort((short) PCM);
+        out.putShort((short) channels);
+        out.putInt(sampleRate);
+        out.putInt(sampleRate * blockAlign);
+        out.putShort((short) blockAlign);
+        out.putShort((short) bits);
+        out.put("data".getBytes(StandardCharsets.US_ASCII));
+        out.putInt(len);
+        out.put(src, off, len);
+        return out.array();
+    }
+
+    private static String ascii(byte[] b, int off) {
+        if (off + 4 > b.length) return "";
+        return new String(b, off, 4, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,104 @@
+package com.nptechon.smartamp.broadcast.controller;
+
+import com.nptechon.smartamp.broadcast.dto.BroadcastTicketDto;
+import com.nptechon.smartamp.broadcast.dto.QueuedBroadcastRequestDto;
+import com.nptechon.smartamp.broadcast.queue.BroadcastQueue;
+import com.nptechon.smartamp.global.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 앰프가 재생 중이어도 바로 실패하지 않고 대기열에 넣는 방송 API
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/broadcast/queue")
+public class BroadcastQueueController {
+
+    private final BroadcastQueue broadcastQueue;
+
+    @PostMapping("/index")
+    public ResponseEntity<ApiResponse<BroadcastTicketDto>> enqueueIndex(@RequestBody QueuedBroadcastRequestDto dto, HttpServletRequest request) {
+        log.info("queued index broadcast.. AmpID: {}, Index: {}, repeat: {}", dto.getAmpId(), dto.getIndex(), dto.getRepeat());
+
+        BroadcastTicketDto result = broadcastQueue.enqueueIndex(dto.getAmpId(), dto.getIndex(), dto.getRepeat());
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "인덱스 방송 대기열 등록 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+
+    @PostMapping("/keyword")
+    public ResponseEntity<ApiResponse<BroadcastTicketDto>> enqueueKeyword(@RequestBody QueuedBroadcastRequestDto dto, HttpServletRequest request) {
+        log.info("queued keyword broadcast.. AmpID: {}, content: {}", dto.getAmpId(), dto.getContent());
+
+        BroadcastTicketDto result = broadcastQueue.enqueueKeyword(dto.getAmpId(), dto.getContent(), dto.getRepeat());
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "키워드 방송 대기열 등록 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+
+    @GetMapping("/ticket/{ticketId}")
+    public ResponseEntity<ApiResponse<BroadcastTicketDto>> ticket(@PathVariable String ticketId, HttpServletRequest request) {
+        BroadcastTicketDto result = broadcastQueue.ticket(ticketId);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "대기열 방송 조회 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+
+    @DeleteMapping("/ticket/{ticketId}")
+    public ResponseEntity<ApiResponse<BroadcastTicketDto>> cancel(@PathVariable String ticketId, HttpServletRequest request) {
+        BroadcastTicketDto result = broadcastQueue.cancel(ticketId);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "대기열 방송 취소 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<BroadcastTicketDto>>> queueOf(@RequestParam int ampId, HttpServletRequest request) {
+        List<BroadcastTicketDto> result = broadcastQueue.queueOf(ampId);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "앰프 방송 대기열 조회 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+}
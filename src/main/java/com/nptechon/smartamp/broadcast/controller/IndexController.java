@@ -1,6 +1,11 @@
 package com.nptechon.smartamp.broadcast.controller;
 
+import com.nptechon.smartamp.broadcast.dto.AlignedBroadcastResultDto;
+import com.nptechon.smartamp.broadcast.dto.AlignedIndexBroadcastRequestDto;
+import com.nptechon.smartamp.broadcast.dto.GroupBroadcastRequestDto;
+import com.nptechon.smartamp.broadcast.dto.GroupBroadcastResultDto;
 import com.nptechon.smartamp.broadcast.dto.IndexBroadcastDto;
+import com.nptechon.smartamp.broadcast.service.AlignedIndexBroadcastService;
 import com.nptechon.smartamp.broadcast.service.IndexBroadcastService;
 import com.nptechon.smartamp.global.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/audio")
 public class IndexController {
     private final IndexBroadcastService indexBroadcastService;
+    private final AlignedIndexBroadcastService alignedIndexBroadcastService;
 
     @PostMapping("/broadcast")
     public ResponseEntity<ApiResponse<IndexBroadcastDto>> upload(@RequestBody IndexBroadcastDto dto, HttpServletRequest request) {
@@ -33,4 +39,39 @@ public class IndexController {
         );
     }
 
+    @PostMapping("/broadcast/group")
+    public ResponseEntity<ApiResponse<GroupBroadcastResultDto>> broadcastGroup(@RequestBody GroupBroadcastRequestDto dto, HttpServletRequest request) {
+        log.info("GroupID: {}, Index: {}, repeat: {}", dto.getGroupId(), dto.getIndex(), dto.getRepeat());
+
+        GroupBroadcastResultDto result = indexBroadcastService.sendAudioIndexToGroup(dto.getGroupId(), dto.getIndex(), dto.getRepeat());
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "그룹 인덱스 방송 요청 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+
+    @PostMapping("/broadcast/aligned")
+    public ResponseEntity<ApiResponse<AlignedBroadcastResultDto>> broadcastAligned(@RequestBody AlignedIndexBroadcastRequestDto dto, HttpServletRequest request) {
+        log.info("aligned index broadcast.. AmpIDs: {}, GroupID: {}, Index: {}, repeat: {}",
+                dto.getAmpIds(), dto.getGroupId(), dto.getIndex(), dto.getRepeat());
+
+        AlignedBroadcastResultDto result = alignedIndexBroadcastService.sendAlignedIndex(
+                dto.getAmpIds(), dto.getGroupId(), dto.getIndex(), dto.getRepeat());
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "동시 시작 인덱스 방송 요청 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
 }
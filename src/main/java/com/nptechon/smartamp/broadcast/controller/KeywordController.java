@@ -1,6 +1,9 @@
 package com.nptechon.smartamp.broadcast.controller;
 
+import com.nptechon.smartamp.broadcast.dto.GroupBroadcastRequestDto;
+import com.nptechon.smartamp.broadcast.dto.GroupBroadcastResultDto;
 import com.nptechon.smartamp.broadcast.dto.KeywordBroadcastDto;
+import com.nptechon.smartamp.broadcast.dto.TtsCacheStatsDto;
 import com.nptechon.smartamp.broadcast.service.KeywordService;
 import com.nptechon.smartamp.global.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
@@ -33,4 +36,36 @@ public class KeywordController {
                 )
         );
     }
+
+    @GetMapping("/tts-cache/stats")
+    public ResponseEntity<ApiResponse<TtsCacheStatsDto>> cacheStats(HttpServletRequest request) {
+        TtsCacheStatsDto result = keywordService.getCacheStats();
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "TTS 캐시 통계 조회 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+
+    @PostMapping("/broadcast/group")
+    public ResponseEntity<ApiResponse<GroupBroadcastResultDto>> broadcastGroup(@RequestBody GroupBroadcastRequestDto dto, HttpServletRequest request) {
+        log.info("keyword group broadcast api request!! groupId: {}, content: {}", dto.getGroupId(), dto.getContent());
+
+        GroupBroadcastResultDto result = keywordService.broadcastTtsToGroup(dto.getGroupId(), dto.getContent(), dto.getRepeat());
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "그룹 키워드 TTS 방송 요청 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
 }
@@ -1,5 +1,7 @@
 package com.nptechon.smartamp.broadcast.controller;
 
+import com.nptechon.smartamp.broadcast.dto.GroupBroadcastRequestDto;
+import com.nptechon.smartamp.broadcast.dto.GroupBroadcastResultDto;
 import com.nptechon.smartamp.broadcast.dto.VoiceBroadcastRequestDto;
 import com.nptechon.smartamp.broadcast.dto.VoiceBroadcastResultDto;
 import com.nptechon.smartamp.broadcast.service.VoiceConvertService;
@@ -42,4 +44,27 @@ public class VoiceController {
                 )
         );
     }
+
+    @PostMapping(
+            value = "/broadcast/group",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE
+    )
+    public ResponseEntity<ApiResponse<GroupBroadcastResultDto>> uploadGroup(
+            @RequestPart("file") MultipartFile file,
+            @RequestPart("dto") GroupBroadcastRequestDto dto,
+            HttpServletRequest request
+    ) {
+        log.info("voice group broadcast.. GroupID: {}, repeat: {}", dto.getGroupId(), dto.getRepeat());
+        GroupBroadcastResultDto result = voiceConvertService.uploadAndBroadcastToGroup(file, dto.getGroupId(), dto.getRepeat());
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "그룹 음성 방송 요청 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
 }
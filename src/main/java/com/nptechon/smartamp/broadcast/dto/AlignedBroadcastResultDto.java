@@ -0,0 +1,18 @@
+package com.nptechon.smartamp.broadcast.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class AlignedBroadcastResultDto {
+    private int requested;
+    private int started;
+    private long totalLatencyMs;
+    private double targetSkewMs;
+    private double estimatedSkewMs;   // 실제 전송 시각 + 이번 응답 RTT/2 기준 도착 시각의 최대-최소 (OK 앰프만)
+    private double dispatchJitterMs;  // 정렬에 쓴 EWMA RTT/2 기준 (이벤트루프 스케줄 오차)
+    private List<AlignedMemberResultDto> results;
+}
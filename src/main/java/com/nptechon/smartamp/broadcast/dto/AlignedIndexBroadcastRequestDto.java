@@ -0,0 +1,18 @@
+package com.nptechon.smartamp.broadcast.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 동시 시작 인덱스 방송 요청 (ampIds 또는 groupId 중 하나)
+ */
+@Getter
+@AllArgsConstructor
+public class AlignedIndexBroadcastRequestDto {
+    private List<Integer> ampIds;
+    private String groupId;
+    private int index;
+    private int repeat;
+}
@@ -0,0 +1,15 @@
+package com.nptechon.smartamp.broadcast.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AlignedMemberResultDto {
+    private int ampId;
+    private String result;        // ok / offline / timeout / busy / error
+    private double rttMs;         // 정렬에 사용한 RTT (EWMA 또는 기본값)
+    private double replyRttMs;    // 이번 0x03 전송 → 응답 RTT (OK 가 아니면 0)
+    private double sendOffsetMs;  // 첫 전송 대비 실제 전송 시각
+    private long latencyMs;       // 응답까지
+}
@@ -0,0 +1,17 @@
+package com.nptechon.smartamp.broadcast.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BroadcastTicketDto {
+    private String ticketId;
+    private int ampId;
+    private String type;             // INDEX / KEYWORD
+    private String state;            // QUEUED / RUNNING / DONE / FAILED / CANCELLED
+    private int position;            // 앞에 남은 방송 수 (0 = 실행 중/다음 차례, -1 = 끝남)
+    private int attempts;            // Busy 재시도 포함 시도 횟수
+    private long estimatedStartAtMs; // 추정 시작 시각 (epoch ms, 끝났으면 0)
+    private String message;          // 실패 사유 등
+}
@@ -0,0 +1,16 @@
+package com.nptechon.smartamp.broadcast.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 그룹 방송 요청 (index / keyword / voice 공용, 안 쓰는 필드는 무시)
+ */
+@Getter
+@AllArgsConstructor
+public class GroupBroadcastRequestDto {
+    private String groupId;
+    private int index;
+    private String content;
+    private int repeat;
+}
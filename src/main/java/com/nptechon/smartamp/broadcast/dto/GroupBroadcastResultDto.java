@@ -0,0 +1,16 @@
+package com.nptechon.smartamp.broadcast.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class GroupBroadcastResultDto {
+    private String groupId;
+    private int requested;        // 그룹 멤버 수
+    private int started;          // 방송 시작된 앰프 수
+    private long totalLatencyMs;
+    private List<GroupMemberResultDto> results;
+}
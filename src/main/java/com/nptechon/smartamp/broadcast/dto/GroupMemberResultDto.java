@@ -0,0 +1,12 @@
+package com.nptechon.smartamp.broadcast.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class GroupMemberResultDto {
+    private int ampId;
+    private String result;   // ok / offline / timeout / busy / error
+    private long latencyMs;  // 방송 시작 요청(0x03/0x04) 응답까지
+}
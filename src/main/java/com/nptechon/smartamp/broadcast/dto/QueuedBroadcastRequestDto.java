@@ -0,0 +1,16 @@
+package com.nptechon.smartamp.broadcast.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 대기열 방송 요청 (index / keyword 공용, 안 쓰는 필드는 무시)
+ */
+@Getter
+@AllArgsConstructor
+public class QueuedBroadcastRequestDto {
+    private int ampId;
+    private int index;
+    private String content;
+    private int repeat;
+}
@@ -0,0 +1,18 @@
+package com.nptechon.smartamp.broadcast.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TtsCacheStatsDto {
+    private long memoryHits;
+    private long diskHits;
+    private long misses;
+    private double hitRatio;
+
+    private int memoryEntries;
+    private long memoryBytes;
+    private long diskBytes;
+    private long evictions;
+}
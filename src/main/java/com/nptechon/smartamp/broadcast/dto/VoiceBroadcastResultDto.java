@@ -14,4 +14,12 @@ public class VoiceBroadcastResultDto {
     private final long tookMs;
     private final int formatCode;
     private final Path mp3Path;
+
+    // 전처리(무음 제거) 결과
+    private final long trimmedMs;
+    private final long savedBytes;
+    private final int savedFrames;
+
+    // 앰프 링크 속도 기준으로 선택된 bitrate
+    private final int bitrateKbps;
 }
\ No newline at end of file
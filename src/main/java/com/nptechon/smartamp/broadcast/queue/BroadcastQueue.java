@@ -0,0 +1,291 @@
+package com.nptechon.smartamp.broadcast.queue;
+
+import com.nptechon.smartamp.broadcast.dto.BroadcastTicketDto;
+import com.nptechon.smartamp.broadcast.service.IndexBroadcastService;
+import com.nptechon.smartamp.broadcast.service.KeywordService;
+import com.nptechon.smartamp.global.config.BroadcastQueueProperties;
+import com.nptechon.smartamp.global.error.CustomException;
+import com.nptechon.smartamp.global.error.ErrorCode;
+import com.nptechon.smartamp.tcp.util.RepeatValidatorUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 앰프별 방송 대기열
+ * - 재생 중인 앰프에는 보내지 않고, 재생 종료 추정 시각(PlaybackTracker)에 맞춰 다음 방송을 시작
+ * - 그래도 Busy 면 지수 backoff 로 재시도 (maxWaitMs 까지)
+ * - 앰프당 동시에 하나만 실행, 나머지는 순서대로 대기
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BroadcastQueue {
+
+    private final BroadcastQueueProperties props;
+    private final PlaybackTracker playbackTracker;
+    private final IndexBroadcastService indexBroadcastService;
+    private final KeywordService keywordService;
+
+    private final Map<Integer, AmpQueue> queues = new ConcurrentHashMap<>();
+    private final Map<String, Job> tickets = new ConcurrentHashMap<>();
+
+    // 끝난 ticket (조회용, 오래된 것부터 제거)
+    private final Map<String, Job> finished = new LinkedHashMap<>();
+
+    private ScheduledExecutorService timer;
+    private ExecutorService workers;
+
+    private enum State { QUEUED, RUNNING, DONE, FAILED, CANCELLED }
+
+    private static final class Job {
+        private final String ticketId = UUID.randomUUID().toString();
+        private final int ampId;
+        private final String type;
+        private final long estimateMs;      // 대기 시간 추정용 재생 길이
+        private final Runnable action;      // DEVICE_BUSY 면 재시도
+        private final long enqueuedAtMs = System.currentTimeMillis();
+
+        private volatile State state = State.QUEUED;
+        private volatile int attempts;
+        private volatile String message;
+
+        private Job(int ampId, String type, long estimateMs, Runnable action) {
+            this.ampId = ampId;
+            this.type = type;
+            this.estimateMs = estimateMs;
+            this.action = action;
+        }
+    }
+
+    // 접근은 synchronized(this AmpQueue)
+    private static final class AmpQueue {
+        private final Deque<Job> waiting = new ArrayDeque<>();
+        private Job running;
+    }
+
+    @PostConstruct
+    void init() {
+        timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "broadcast-queue-timer");
+            t.setDaemon(true);
+            return t;
+        });
+        workers = Executors.newFixedThreadPool(Math.max(1, props.getWorkerThreads()), r -> {
+            Thread t = new Thread(r, "broadcast-queue");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        timer.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    public BroadcastTicketDto enqueueIndex(int ampId, int index, int repeat) {
+        IndexBroadcastService.validate(index, repeat);
+        long estimate = playbackTracker.indexDurationMs() * repeatTimes(repeat);
+        return enqueue(new Job(ampId, "INDEX", estimate,
+                () -> indexBroadcastService.sendAudioIndex(ampId, index, repeat)));
+    }
+
+    public BroadcastTicketDto enqueueKeyword(int ampId, String content, int repeat) {
+        if (content == null || content.isBlank()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "content가 비어있습니다.");
+        }
+        if (!RepeatValidatorUtil.isValid(repeat)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "repeat 값은 1~5 또는 255(무한) 이어야 합니다.");
+        }
+        // 합성 전이라 길이를 모름 → 인덱스와 같은 기본값으로 추정
+        long estimate = playbackTracker.indexDurationMs() * repeatTimes(repeat);
+        return enqueue(new Job(ampId, "KEYWORD", estimate,
+                () -> keywordService.broadcastTts(ampId, content, repeat)));
+    }
+
+    public BroadcastTicketDto ticket(String ticketId) {
+        Job job = tickets.get(ticketId);
+        if (job == null) {
+            synchronized (finished) {
+                job = finished.get(ticketId);
+            }
+        }
+        if (job == null) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "ticket을 찾을 수 없습니다: " + ticketId);
+        }
+        return toDto(job);
+    }
+
+    // 실행 중 + 대기 중 (순서대로)
+    public List<BroadcastTicketDto> queueOf(int ampId) {
+        AmpQueue q = queues.get(ampId);
+        if (q == null) return List.of();
+
+        List<Job> jobs = new ArrayList<>();
+        synchronized (q) {
+            if (q.running != null) jobs.add(q.running);
+            jobs.addAll(q.waiting);
+        }
+        return jobs.stream().map(this::toDto).toList();
+    }
+
+    // 대기 중인 것만 취소 가능 (이미 시작된 방송은 앰프에서 진행 중)
+    public BroadcastTicketDto cancel(String ticketId) {
+        Job job = tickets.get(ticketId);
+        if (job == null) return ticket(ticketId);
+
+        AmpQueue q = queues.get(job.ampId);
+        synchronized (q) {
+            if (job.state != State.QUEUED || q.running == job) {
+                throw new CustomException(ErrorCode.INVALID_REQUEST, "이미 시작된 방송은 취소할 수 없습니다.");
+            }
+            q.waiting.remove(job);
+        }
+        finish(job, State.CANCELLED, "cancelled");
+        return toDto(job);
+    }
+
+    private BroadcastTicketDto enqueue(Job job) {
+        AmpQueue q = queues.computeIfAbsent(job.ampId, k -> new AmpQueue());
+        synchronized (q) {
+            int size = q.waiting.size() + (q.running == null ? 0 : 1);
+            if (size >= props.getMaxPerAmp()) {
+                throw new CustomException(ErrorCode.DEVICE_BUSY, "대기 중인 방송이 너무 많습니다. (최대 " + props.getMaxPerAmp() + "건)");
+            }
+            q.waiting.addLast(job);
+            tickets.put(job.ticketId, job);
+        }
+        log.info("[BROADCAST][QUEUE] enqueue ampId={} type={} ticket={}", job.ampId, job.type, job.ticketId);
+
+        dispatch(job.ampId);
+        return toDto(job);
+    }
+
+    // 실행 중인 방송이 없으면 맨 앞 방송을 재생 종료 추정 시각에 예약
+    private void dispatch(int ampId) {
+        AmpQueue q = queues.get(ampId);
+        Job next;
+        synchronized (q) {
+            if (q.running != null || q.waiting.isEmpty()) return;
+            next = q.waiting.pollFirst();
+            q.running = next;
+        }
+        schedule(next, delayUntilFree(ampId));
+    }
+
+    private void schedule(Job job, long delayMs) {
+        timer.schedule(() -> workers.execute(() -> run(job)), delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void run(Job job) {
+        job.state = State.RUNNING;
+        job.attempts++;
+        try {
+            job.action.run();
+            log.info("[BROADCAST][QUEUE] started ampId={} type={} ticket={} attempts={} waitedMs={}",
+                    job.ampId, job.type, job.ticketId, job.attempts, System.currentTimeMillis() - job.enqueuedAtMs);
+            complete(job, State.DONE, null);
+
+        } catch (CustomException e) {
+            if (e.getErrorCode() == ErrorCode.DEVICE_BUSY && retry(job)) return;
+            complete(job, State.FAILED, e.getErrorCode().getCode());
+        } catch (RuntimeException e) {
+            log.error("[BROADCAST][QUEUE] failed ampId={} ticket={}", job.ampId, job.ticketId, e);
+            complete(job, State.FAILED, e.getMessage());
+        }
+    }
+
+    // Busy → 추정 종료 시각과 backoff 중 늦은 쪽에 재시도
+    private boolean retry(Job job) {
+        long waited = System.currentTimeMillis() - job.enqueuedAtMs;
+        if (waited >= props.getMaxWaitMs()) {
+            log.warn("[BROADCAST][QUEUE] give up ampId={} ticket={} attempts={} waitedMs={}",
+                    job.ampId, job.ticketId, job.attempts, waited);
+            return false;
+        }
+
+        long backoff = Math.min(props.getMaxBackoffMs(),
+                props.getInitialBackoffMs() << Math.min(20, job.attempts - 1));
+        long delay = Math.max(backoff, delayUntilFree(job.ampId));
+        job.state = State.QUEUED;
+        job.message = "busy, retry in " + delay + "ms";
+
+        log.info("[BROADCAST][QUEUE] busy -> retry ampId={} ticket={} attempts={} delayMs={}",
+                job.ampId, job.ticketId, job.attempts, delay);
+        schedule(job, delay);
+        return true;
+    }
+
+    private void complete(Job job, State state, String message) {
+        AmpQueue q = queues.get(job.ampId);
+        synchronized (q) {
+            if (q.running == job) q.running = null;
+        }
+        finish(job, state, message);
+        dispatch(job.ampId);
+    }
+
+    private void finish(Job job, State state, String message) {
+        job.state = state;
+        job.message = message;
+        tickets.remove(job.ticketId);
+        synchronized (finished) {
+            finished.put(job.ticketId, job);
+            if (finished.size() > props.getRetainFinished()) {
+                finished.remove(finished.keySet().iterator().next());
+            }
+        }
+    }
+
+    private long delayUntilFree(int ampId) {
+        long freeAt = playbackTracker.expectedFreeAtMs(ampId);
+        if (freeAt == 0) return 0;
+        return Math.max(0, freeAt + props.getEstimateMarginMs() - System.currentTimeMillis());
+    }
+
+    private BroadcastTicketDto toDto(Job job) {
+        State state = job.state;
+        if (state == State.DONE || state == State.FAILED || state == State.CANCELLED) {
+            return new BroadcastTicketDto(job.ticketId, job.ampId, job.type, state.name(), -1, job.attempts, 0, job.message);
+        }
+
+        AmpQueue q = queues.get(job.ampId);
+        int position = 0;
+        long startAt = Math.max(System.currentTimeMillis(), playbackTracker.expectedFreeAtMs(job.ampId));
+        synchronized (q) {
+            if (q.running != job) {
+                // 실행 중인 방송 재생 길이 + 앞에 있는 방송들 재생 길이
+                if (q.running != null) {
+                    startAt += (q.running.state == State.RUNNING) ? q.running.estimateMs : 0;
+                    position++;
+                }
+                for (Job ahead : q.waiting) {
+                    if (ahead == job) break;
+                    position++;
+                    startAt += ahead.estimateMs;
+                }
+            }
+        }
+        return new BroadcastTicketDto(job.ticketId, job.ampId, job.type, state.name(), position, job.attempts, startAt, job.message);
+    }
+
+    private static int repeatTimes(int repeat) {
+        return (repeat == 0xFF) ? 1 : Math.max(1, repeat);
+    }
+}
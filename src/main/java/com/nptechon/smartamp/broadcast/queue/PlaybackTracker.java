@@ -0,0 +1,38 @@
+package com.nptechon.smartamp.broadcast.queue;
+
+import com.nptechon.smartamp.global.config.DeviceStateProperties;
+import com.nptechon.smartamp.tcp.server.session.DeviceStateRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 앰프별 재생 종료 추정 시각
+ * - 방송 시작이 확인되면 (MP3 프레임 헤더 기준 길이 × repeat) 만큼 재생 중으로 본다
+ * - repeat=255(무한) 은 끝을 알 수 없으므로 1회 길이만 반영하고 이후는 Busy 재시도에 맡긴다
+ * - 값은 DeviceStateRegistry 의 PLAYING 종료 시각에 기록 (로컬 Busy 판단과 같은 값을 본다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaybackTracker {
+
+    private final DeviceStateRegistry deviceState;
+    private final DeviceStateProperties deviceStateProperties;
+
+    public void markPlaying(int ampId, long durationMs, int repeat) {
+        deviceState.markPlaying(ampId, durationMs, repeat);
+        log.debug("[BROADCAST][PLAYBACK] ampId={} durationMs={} repeat={} until={}",
+                ampId, durationMs, repeat, deviceState.expectedFreeAtMs(ampId));
+    }
+
+    // 재생이 끝났을 것으로 보는 시각 (모르면 0)
+    public long expectedFreeAtMs(int ampId) {
+        return deviceState.expectedFreeAtMs(ampId);
+    }
+
+    // 인덱스 음원 1회 재생 길이 추정값
+    public long indexDurationMs() {
+        return deviceStateProperties.getIndexDurationMs();
+    }
+}
@@ -0,0 +1,193 @@
+package com.nptechon.smartamp.broadcast.service;
+
+import com.nptechon.smartamp.broadcast.dto.AlignedBroadcastResultDto;
+import com.nptechon.smartamp.broadcast.dto.AlignedMemberResultDto;
+import com.nptechon.smartamp.global.config.BroadcastSyncProperties;
+import com.nptechon.smartamp.global.error.CustomException;
+import com.nptechon.smartamp.global.error.ErrorCode;
+import com.nptechon.smartamp.group.service.AmpGroupService;
+import com.nptechon.smartamp.tcp.server.link.LinkEstimator;
+import com.nptechon.smartamp.tcp.server.sender.CommandSender;
+import com.nptechon.smartamp.tcp.server.session.TcpSessionManager;
+import com.nptechon.smartamp.tcp.util.CommandResultUtil;
+import io.netty.channel.Channel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 앰프 동시 시작 인덱스 방송
+ * - 앰프별 RTT(EWMA) 의 절반을 편도 지연으로 보고, 가장 먼 앰프 기준으로 가까운 앰프의 0x03 전송을 늦춘다
+ *   delay_i = max(RTT/2) - RTT_i/2
+ * - 전송은 각 채널의 이벤트루프 스케줄러에서 (요청 스레드/HTTP 직렬화 영향 없음)
+ * - skew: 이번 전송의 앰프별 응답 RTT 로 도착 시각(전송 시각 + RTT/2)을 추정해 최대-최소 (OK 응답 앰프만)
+ * - dispatchJitter: 정렬에 쓴 EWMA 편도 지연 기준 도착 시각의 최대-최소 (이벤트루프 스케줄 오차만 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AlignedIndexBroadcastService {
+
+    private final CommandSender commandSender;
+    private final TcpSessionManager sessionManager;
+    private final AmpGroupService ampGroupService;
+    private final LinkEstimator linkEstimator;
+    private final BroadcastSyncProperties props;
+
+    public AlignedBroadcastResultDto sendAlignedIndex(List<Integer> ampIds, String groupId, int index, int repeat) {
+        IndexBroadcastService.validate(index, repeat);
+
+        Set<Integer> members;
+        Map<Integer, Channel> connected;
+        if (groupId != null && !groupId.isBlank()) {
+            members = ampGroupService.members(groupId);
+            connected = ampGroupService.connected(groupId);
+        } else {
+            members = validateAmpIds(ampIds);
+            connected = new LinkedHashMap<>();
+            for (int ampId : members) {
+                Channel ch = sessionManager.get(ampId);
+                if (ch != null && ch.isActive()) connected.put(ampId, ch);
+            }
+        }
+
+        // 1) 편도 지연 추정
+        long defaultRttNs = TimeUnit.MILLISECONDS.toNanos(props.getDefaultRttMs());
+        Map<Integer, Long> oneWayNs = new LinkedHashMap<>();
+        long maxOneWayNs = 0;
+        for (int ampId : connected.keySet()) {
+            long ow = linkEstimator.rttEwmaNanos(ampId).orElse(defaultRttNs) / 2;
+            oneWayNs.put(ampId, ow);
+            maxOneWayNs = Math.max(maxOneWayNs, ow);
+        }
+        long capNs = TimeUnit.MILLISECONDS.toNanos(props.getMaxAlignDelayMs());
+
+        // 2) 이벤트루프에 전송 예약
+        long t0 = System.nanoTime();
+        Map<Integer, Long> sentAtNs = new LinkedHashMap<>();
+        Map<Integer, Long> replyRttNs = new LinkedHashMap<>();
+        Map<Integer, CompletableFuture<Boolean>> replies = new LinkedHashMap<>();
+        for (int ampId : members) {
+            Channel ch = connected.get(ampId);
+            if (ch == null) {
+                replies.put(ampId, CompletableFuture.failedFuture(new CustomException(ErrorCode.DEVICE_OFFLINE)));
+                continue;
+            }
+
+            long delayNs = Math.min(maxOneWayNs - oneWayNs.get(ampId), capNs);
+            CompletableFuture<Boolean> reply = new CompletableFuture<>();
+            replies.put(ampId, reply);
+            try {
+                ch.eventLoop().schedule(() -> {
+                    long sent = System.nanoTime();
+                    synchronized (sentAtNs) {
+                        sentAtNs.put(ampId, sent);
+                    }
+                    commandSender.sendIndexAsync(ch, ampId, index, repeat).whenComplete((r, ex) -> {
+                        // 앰프가 OK 응답한 경우만 (로컬 Busy 는 링크를 타지 않음)
+                        if (ex == null && r) {
+                            synchronized (replyRttNs) {
+                                replyRttNs.put(ampId, System.nanoTime() - sent);
+                            }
+                        }
+                        if (ex != null) reply.completeExceptionally(ex);
+                        else reply.complete(r);
+                    });
+                }, delayNs, TimeUnit.NANOSECONDS);
+            } catch (RuntimeException e) {
+                // 이벤트루프 종료 등
+                reply.completeExceptionally(e);
+            }
+        }
+
+        // 각 응답은 CommandSender 에서 orTimeout 이 걸려 있음
+        CompletableFuture.allOf(replies.values().stream()
+                .map(f -> f.handle((r, ex) -> null))
+                .toArray(CompletableFuture<?>[]::new)).join();
+
+        // 3) 결과 + 추정 skew
+        long firstSentNs = Long.MAX_VALUE;
+        long minPlannedNs = Long.MAX_VALUE;
+        long maxPlannedNs = Long.MIN_VALUE;
+        long minArrivalNs = Long.MAX_VALUE;
+        long maxArrivalNs = Long.MIN_VALUE;
+        synchronized (sentAtNs) {
+            for (Map.Entry<Integer, Long> e : sentAtNs.entrySet()) {
+                long sent = e.getValue();
+                firstSentNs = Math.min(firstSentNs, sent);
+
+                long planned = sent + oneWayNs.get(e.getKey());
+                minPlannedNs = Math.min(minPlannedNs, planned);
+                maxPlannedNs = Math.max(maxPlannedNs, planned);
+
+                Long rtt;
+                synchronized (replyRttNs) {
+                    rtt = replyRttNs.get(e.getKey());
+                }
+                if (rtt == null) continue;
+                long arrival = sent + rtt / 2;
+                minArrivalNs = Math.min(minArrivalNs, arrival);
+                maxArrivalNs = Math.max(maxArrivalNs, arrival);
+            }
+        }
+        double jitterMs = sentAtNs.isEmpty() ? 0 : toMs(maxPlannedNs - minPlannedNs);
+        double skewMs = (minArrivalNs == Long.MAX_VALUE) ? 0 : toMs(maxArrivalNs - minArrivalNs);
+
+        List<AlignedMemberResultDto> results = new ArrayList<>(members.size());
+        int started = 0;
+        for (Map.Entry<Integer, CompletableFuture<Boolean>> e : replies.entrySet()) {
+            int ampId = e.getKey();
+            String result = e.getValue()
+                    .handle((ok, ex) -> ex != null ? CommandResultUtil.classify(ex)
+                            : (ok ? CommandResultUtil.OK : CommandResultUtil.BUSY))
+                    .join();
+            if (CommandResultUtil.OK.equals(result)) started++;
+
+            Long sent = sentAtNs.get(ampId);
+            Long ow = oneWayNs.get(ampId);
+            Long rtt = replyRttNs.get(ampId);
+            results.add(new AlignedMemberResultDto(
+                    ampId,
+                    result,
+                    ow == null ? 0 : toMs(ow * 2),
+                    rtt == null ? 0 : toMs(rtt),
+                    sent == null ? 0 : toMs(sent - firstSentNs),
+                    (System.nanoTime() - t0) / 1_000_000
+            ));
+        }
+
+        long totalMs = (System.nanoTime() - t0) / 1_000_000;
+        if (skewMs > props.getTargetSkewMs()) {
+            log.warn("[BROADCAST][ALIGNED] skew over target index={} members={} sent={} skewMs={} targetMs={} maxOneWayMs={}",
+                    index, members.size(), sentAtNs.size(), skewMs, props.getTargetSkewMs(), toMs(maxOneWayNs));
+        }
+        log.info("[BROADCAST][ALIGNED] index={} members={} started={} skewMs={} dispatchJitterMs={} totalMs={}",
+                index, members.size(), started, skewMs, jitterMs, totalMs);
+
+        return new AlignedBroadcastResultDto(members.size(), started, totalMs, props.getTargetSkewMs(), skewMs, jitterMs, results);
+    }
+
+    private Set<Integer> validateAmpIds(List<Integer> ampIds) {
+        if (ampIds == null || ampIds.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "ampIds 또는 groupId가 필요합니다.");
+        }
+        Set<Integer> ids = new LinkedHashSet<>(ampIds);
+        if (ids.size() > props.getMaxAmps()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "한 번에 방송할 수 있는 앰프는 최대 " + props.getMaxAmps() + "대입니다.");
+        }
+        return ids;
+    }
+
+    private static double toMs(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0; // 소수 2자리
+    }
+}
@@ -1,17 +1,44 @@
 package com.nptechon.smartamp.broadcast.service;
 
+import com.nptechon.smartamp.broadcast.audio.Mp3FrameUtil;
+import com.nptechon.smartamp.broadcast.dto.GroupBroadcastResultDto;
+import com.nptechon.smartamp.broadcast.dto.GroupMemberResultDto;
+import com.nptechon.smartamp.broadcast.queue.PlaybackTracker;
+import com.nptechon.smartamp.global.config.BroadcastPipelineProperties;
 import com.nptechon.smartamp.global.error.CustomException;
 import com.nptechon.smartamp.global.error.ErrorCode;
 import com.nptechon.smartamp.tcp.protocol.payload.StreamType;
 import com.nptechon.smartamp.tcp.server.sender.CommandSender;
 import com.nptechon.smartamp.tcp.server.sender.FileSender;
+import com.nptechon.smartamp.tcp.server.session.DeviceStateRegistry;
+import com.nptechon.smartamp.tcp.util.CommandResultUtil;
 import com.nptechon.smartamp.tcp.util.RepeatValidatorUtil;
+import io.netty.channel.Channel;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -20,6 +47,26 @@ public class FileBroadcastService {
 
     private final FileSender fileSender;
     private final CommandSender commandSender;
+    private final BroadcastPipelineProperties pipelineProperties;
+    private final DeviceStateRegistry deviceState;
+    private final PlaybackTracker playbackTracker;
+
+    // 합성/변환을 0x04 핸드셰이크와 병렬로 돌리는 스레드
+    private ExecutorService pipelineExecutor;
+
+    @PostConstruct
+    void init() {
+        pipelineExecutor = Executors.newFixedThreadPool(Math.max(1, pipelineProperties.getWorkerThreads()), r -> {
+            Thread t = new Thread(r, "broadcast-pipeline");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pipelineExecutor.shutdownNow();
+    }
 
     /**
      * 512 프레임 파일 전송
@@ -29,18 +76,7 @@ public class FileBroadcastService {
      */
     public void sendMp3AsFile512(int ampId, Path mp3Path, StreamType streamType, int repeat) {
         try {
-            if (!RepeatValidatorUtil.isValid(repeat)) {
-                throw new CustomException(ErrorCode.INVALID_REQUEST, "repeat 값은 1~5 또는 255(무한) 이어야 합니다.");
-            }
-
-            // 1) opcode 0x04 먼저
-            boolean ok = commandSender.sendStreamType(ampId, streamType, repeat);
-            log.info("음성 파일 Type 전송 결과: {}", ok);
-
-            // 앰프의 응답이 Busy(payload=1)면 여기서 끊고 앱에 메시지 내려주기
-            if (!ok) {
-                throw new CustomException(ErrorCode.DEVICE_BUSY, "현재 방송 중입니다. 잠시 후 다시 시도해주세요.");
-            }
+            requestStreamType(ampId, streamType, repeat);
 
             // 2) OK일 때만 file512 전송
             fileSender.sendMp3File(
@@ -55,4 +91,292 @@ public class FileBroadcastService {
             throw new CustomException(ErrorCode.DEVICE_OFFLINE, "현재 디바이스가 오프라인 상태입니다.");
         }
     }
+
+    /**
+     * 메모리에 있는 MP3 를 임시 파일 없이 512 프레임으로 전송 (TTS 등)
+     */
+    public void sendMp3AsFile512(int ampId, byte[] mp3, String fileName, StreamType streamType, int repeat) {
+        requestStreamType(ampId, streamType, repeat);
+        sendBytes(ampId, mp3, fileName, repeat);
+    }
+
+    /**
+     * 방송 시작 파이프라인
+     * - 0x04(stream type, busy 확인) 왕복과 오디오 생성(TTS 합성 / WAV 변환)을 동시에 시작
+     * - 핸드셰이크가 먼저 busy/실패로 끝나면 오디오 생성을 취소하고 바로 실패 반환
+     * - 오디오 생성이 실패하면 핸드셰이크는 기다리지 않고 실패 반환 (나중에 OK 가 오면 FE 를 보내 앰프 수신 대기 종료)
+     * - 둘 다 성공하면 512 프레임 전송 시작
+     *
+     * @param producer 오디오 생성 작업 (별도 스레드에서 실행)
+     * @param audioOf  producer 결과에서 MP3 바이트 꺼내기
+     * @return producer 결과 (호출 측에서 DTO 구성용)
+     */
+    public <T> T broadcastPipelined(int ampId, StreamType streamType, int repeat, String fileName,
+                                    Callable<T> producer, Function<T, byte[]> audioOf) {
+        if (!RepeatValidatorUtil.isValid(repeat)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "repeat 값은 1~5 또는 255(무한) 이어야 합니다.");
+        }
+
+        if (!pipelineProperties.isEnabled()) {
+            return broadcastSequential(ampId, streamType, repeat, fileName, producer, audioOf);
+        }
+
+        long t0 = System.nanoTime();
+        AtomicLong handshakeNs = new AtomicLong(-1);
+        AtomicLong produceNs = new AtomicLong(-1);
+
+        // 1) 0x04 먼저 날려두고
+        CompletableFuture<Boolean> handshake = commandSender.sendStreamTypeAsync(ampId, streamType, repeat);
+        handshake.whenComplete((r, e) -> handshakeNs.set(System.nanoTime() - t0));
+
+        // 2) 응답을 기다리는 동안 오디오 생성
+        CompletableFuture<T> produced = new CompletableFuture<>();
+        Future<?> task = pipelineExecutor.submit(() -> {
+            try {
+                T r = producer.call();
+                produceNs.set(System.nanoTime() - t0);
+                produced.complete(r);
+            } catch (Throwable e) {
+                produceNs.set(System.nanoTime() - t0);
+                produced.completeExceptionally(e);
+            }
+        });
+
+        // 둘 중 먼저 끝나는 쪽 대기 (예외는 아래에서 개별 처리)
+        CompletableFuture.anyOf(
+                handshake.handle((r, e) -> null),
+                produced.handle((r, e) -> null)
+        ).join();
+
+        // 핸드셰이크가 먼저 끝났고 busy/실패 → 생성 취소
+        if (handshake.isDone() && !produced.isDone()) {
+            try {
+                checkHandshake(ampId, handshake);
+            } catch (CustomException e) {
+                task.cancel(true);
+                log.info("[BROADCAST][PIPELINE] handshake failed -> cancel audio production ampId={} code={} handshakeMs={}",
+                        ampId, e.getErrorCode(), handshakeNs.get() / 1_000_000);
+                throw e;
+            }
+        }
+
+        T result;
+        try {
+            result = awaitProduced("ampId=" + ampId, produced);
+        } catch (RuntimeException e) {
+            // 보낼 오디오가 없음 → 앰프가 OK 했으면 FE 로 수신 대기를 끝내고, 결과와 관계없이 HANDSHAKING 해제
+            handshake.whenCompleteAsync((ok, ex) -> {
+                if (ex == null && Boolean.TRUE.equals(ok)) {
+                    fileSender.abortTransfer(ampId);
+                }
+                deviceState.release(ampId);
+            }, pipelineExecutor);
+            throw e;
+        }
+        checkHandshake(ampId, handshake);
+
+        byte[] mp3 = audioOf.apply(result);
+        long startNs = System.nanoTime() - t0;
+
+        // 3) 둘 다 OK → 전송
+        sendBytes(ampId, mp3, fileName, repeat);
+
+        long hsMs = handshakeNs.get() / 1_000_000;
+        long prodMs = produceNs.get() / 1_000_000;
+        long startMs = startNs / 1_000_000;
+        log.info("[BROADCAST][PIPELINE] ampId={} type={} handshakeMs={} produceMs={} startMs={} overlapSavedMs={} bytes={}",
+                ampId, streamType, hsMs, prodMs, startMs, Math.max(0, hsMs + prodMs - startMs), mp3.length);
+
+        return result;
+    }
+
+    /**
+     * 그룹 방송 파이프라인
+     * - 접속 중인 멤버 채널마다 0x04 를 동시에 보내면서 오디오 생성 시작
+     * - OK 응답한 멤버만 모아 ChannelGroup 으로 512 프레임을 한 번에 전송 (프레임 인코딩 1회)
+     * - 아무도 OK 하지 않으면 오디오 생성 취소
+     * - 오디오 생성이 실패하면 수락한 멤버에게 FE 를 보내 수신 대기 종료
+     *
+     * @param members   그룹 정의상 멤버 (접속 안 된 앰프는 offline 으로 집계)
+     * @param connected 접속 중인 멤버 ampId -> 채널
+     */
+    public <T> GroupBroadcastResultDto broadcastPipelinedToGroup(String groupId, Set<Integer> members,
+                                                                 Map<Integer, Channel> connected,
+                                                                 StreamType streamType, int repeat, String fileName,
+                                                                 Callable<T> producer, Function<T, byte[]> audioOf) {
+        if (!RepeatValidatorUtil.isValid(repeat)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "repeat 값은 1~5 또는 255(무한) 이어야 합니다.");
+        }
+
+        long t0 = System.nanoTime();
+
+        // 1) 멤버별 0x04
+        Map<Integer, CompletableFuture<GroupMemberResultDto>> handshakes = new LinkedHashMap<>();
+        for (int ampId : members) {
+            Channel ch = connected.get(ampId);
+            CompletableFuture<Boolean> f;
+            try {
+                f = commandSender.sendStreamTypeAsync(ch, ampId, streamType, repeat);
+            } catch (RuntimeException e) {
+                f = CompletableFuture.failedFuture(e);
+            }
+            handshakes.put(ampId, f.handle((ok, ex) -> {
+                long latencyMs = (System.nanoTime() - t0) / 1_000_000;
+                if (ex != null) return new GroupMemberResultDto(ampId, CommandResultUtil.classify(ex), latencyMs);
+                return new GroupMemberResultDto(ampId, ok ? CommandResultUtil.OK : CommandResultUtil.BUSY, latencyMs);
+            }));
+        }
+
+        // 2) 응답을 기다리는 동안 오디오 생성
+        CompletableFuture<T> produced = new CompletableFuture<>();
+        Future<?> task = pipelineExecutor.submit(() -> {
+            try {
+                produced.complete(producer.call());
+            } catch (Throwable e) {
+                produced.completeExceptionally(e);
+            }
+        });
+
+        CompletableFuture.allOf(handshakes.values().toArray(CompletableFuture<?>[]::new)).join();
+
+        List<GroupMemberResultDto> results = handshakes.values().stream().map(CompletableFuture::join).toList();
+        ChannelGroup accepted = new DefaultChannelGroup(groupId, GlobalEventExecutor.INSTANCE);
+        Set<Integer> acceptedIds = new LinkedHashSet<>();
+        for (GroupMemberResultDto r : results) {
+            if (CommandResultUtil.OK.equals(r.getResult())) {
+                accepted.add(connected.get(r.getAmpId()));
+                acceptedIds.add(r.getAmpId());
+            }
+        }
+
+        if (acceptedIds.isEmpty()) {
+            task.cancel(true);
+            long totalMs = (System.nanoTime() - t0) / 1_000_000;
+            log.info("[BROADCAST][GROUP] nobody accepted -> cancel audio production groupId={} members={} totalMs={}",
+                    groupId, members.size(), totalMs);
+            return new GroupBroadcastResultDto(groupId, members.size(), 0, totalMs, results);
+        }
+
+        T result;
+        try {
+            result = awaitProduced("groupId=" + groupId, produced);
+        } catch (RuntimeException e) {
+            // 수락한 멤버는 FS 를 기다리고 있으므로 FE 로 끝내고 해제
+            fileSender.abortGroupTransfer(groupId, accepted);
+            acceptedIds.forEach(deviceState::release);
+            throw e;
+        }
+        byte[] mp3 = audioOf.apply(result);
+
+        // 3) 한 번 인코딩해서 수락한 멤버 전체에 전송
+        try {
+            fileSender.sendMp3ToGroup(groupId, accepted, acceptedIds, mp3, fileName, (byte) 0x01, true);
+            long durationMs = Mp3FrameUtil.durationMs(mp3);
+            for (int ampId : acceptedIds) {
+                playbackTracker.markPlaying(ampId, durationMs, repeat);
+            }
+        } catch (IllegalStateException e) {
+            // 핸드셰이크 후 전부 끊긴 경우
+            acceptedIds.forEach(deviceState::release);
+            throw new CustomException(ErrorCode.DEVICE_OFFLINE, "그룹 내 연결된 앰프가 없습니다.");
+        }
+
+        long totalMs = (System.nanoTime() - t0) / 1_000_000;
+        log.info("[BROADCAST][GROUP] groupId={} type={} members={} started={} startMs={} bytes={}",
+                groupId, streamType, members.size(), acceptedIds.size(), totalMs, mp3.length);
+
+        return new GroupBroadcastResultDto(groupId, members.size(), acceptedIds.size(), totalMs, results);
+    }
+
+    private <T> T broadcastSequential(int ampId, StreamType streamType, int repeat, String fileName,
+                                      Callable<T> producer, Function<T, byte[]> audioOf) {
+        long t0 = System.nanoTime();
+        T result = callProducer(producer);
+        long prodMs = (System.nanoTime() - t0) / 1_000_000;
+
+        requestStreamType(ampId, streamType, repeat);
+        long startMs = (System.nanoTime() - t0) / 1_000_000;
+
+        byte[] mp3 = audioOf.apply(result);
+        sendBytes(ampId, mp3, fileName, repeat);
+
+        log.info("[BROADCAST][SEQUENTIAL] ampId={} type={} produceMs={} handshakeMs={} startMs={} bytes={}",
+                ampId, streamType, prodMs, startMs - prodMs, startMs, mp3.length);
+        return result;
+    }
+
+    private static <T> T callProducer(Callable<T> producer) {
+        try {
+            return producer.call();
+        } catch (CustomException e) {
+            throw e;
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+            throw new IllegalStateException("audio production failed: " + e.getMessage(), e);
+        }
+    }
+
+    private <T> T awaitProduced(String target, CompletableFuture<T> produced) {
+        try {
+            return produced.join();
+        } catch (CompletionException e) {
+            Throwable c = e.getCause();
+            log.warn("[BROADCAST][PIPELINE] audio production failed -> abandon handshake {} cause={}",
+                    target, c.toString());
+            if (c instanceof CustomException ce) throw ce;
+            throw new IllegalStateException("audio production failed: " + c.getMessage(), c);
+        }
+    }
+
+    // sendStreamType(sync) 과 같은 기준으로 결과 해석
+    private void checkHandshake(int ampId, CompletableFuture<Boolean> handshake) {
+        boolean ok;
+        try {
+            ok = handshake.join();
+        } catch (CompletionException e) {
+            Throwable c = e.getCause();
+            if (c instanceof CustomException ce) throw ce;
+            if (c instanceof TimeoutException) throw new CustomException(ErrorCode.DEVICE_TIMEOUT);
+            log.error("[BROADCAST][PIPELINE] handshake failed ampId={}", ampId, c);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+        log.info("음성 파일 Type 전송 결과: {}", ok);
+
+        // 앰프의 응답이 Busy(payload=1)면 여기서 끊고 앱에 메시지 내려주기
+        if (!ok) {
+            throw new CustomException(ErrorCode.DEVICE_BUSY, "현재 방송 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private void sendBytes(int ampId, byte[] mp3, String fileName, int repeat) {
+        try {
+            fileSender.sendMp3Bytes(
+                    ampId,
+                    mp3,
+                    fileName,
+                    (byte) 0x01, // MP3
+                    true
+            );
+            // 실시간 전송이라 전송 시작 ≈ 재생 시작
+            playbackTracker.markPlaying(ampId, Mp3FrameUtil.durationMs(mp3), repeat);
+        } catch (IllegalStateException e) {
+            deviceState.release(ampId);
+            throw new CustomException(ErrorCode.DEVICE_OFFLINE, "현재 디바이스가 오프라인 상태입니다.");
+        }
+    }
+
+    private void requestStreamType(int ampId, StreamType streamType, int repeat) {
+        if (!RepeatValidatorUtil.isValid(repeat)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "repeat 값은 1~5 또는 255(무한) 이어야 합니다.");
+        }
+
+        // 1) opcode 0x04 먼저
+        boolean ok = commandSender.sendStreamType(ampId, streamType, repeat);
+        log.info("음성 파일 Type 전송 결과: {}", ok);
+
+        // 앰프의 응답이 Busy(payload=1)면 여기서 끊고 앱에 메시지 내려주기
+        if (!ok) {
+            throw new CustomException(ErrorCode.DEVICE_BUSY, "현재 방송 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
 }
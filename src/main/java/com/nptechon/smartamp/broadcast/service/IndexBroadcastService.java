@@ -1,28 +1,34 @@
 package com.nptechon.smartamp.broadcast.service;
 
+import com.nptechon.smartamp.broadcast.dto.GroupBroadcastResultDto;
+import com.nptechon.smartamp.broadcast.dto.GroupMemberResultDto;
 import com.nptechon.smartamp.broadcast.dto.IndexBroadcastDto;
 import com.nptechon.smartamp.global.error.CustomException;
 import com.nptechon.smartamp.global.error.ErrorCode;
+import com.nptechon.smartamp.group.service.AmpGroupService;
 import com.nptechon.smartamp.tcp.server.sender.CommandSender;
+import com.nptechon.smartamp.tcp.util.CommandResultUtil;
 import com.nptechon.smartamp.tcp.util.RepeatValidatorUtil;
+import io.netty.channel.Channel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class IndexBroadcastService {
     private final CommandSender commandSender;
+    private final AmpGroupService ampGroupService;
 
     public IndexBroadcastDto sendAudioIndex(int ampId, int index, int repeat) {
-        // 입력 검증
-        if (index < 1 || index > 100) {
-            throw new CustomException(ErrorCode.INVALID_REQUEST, "Index 값은 1~100 사이여야 합니다.");
-        }
-        if (!RepeatValidatorUtil.isValid(repeat)) {
-            throw new CustomException(ErrorCode.INVALID_REQUEST, "repeat 값은 1~5 또는 255(무한) 이어야 합니다.");
-        }
+        validate(index, repeat);
 
         try {
             boolean ok = commandSender.sendIndex(ampId, index, repeat);
@@ -42,4 +48,52 @@ public class IndexBroadcastService {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "인덱스 음원 방송 중 오류가 발생했습니다.");
         }
     }
+
+    /**
+     * 그룹 인덱스 방송
+     * - 그룹 채널 셋을 바로 순회하며 0x03 전송 (앰프별 레지스트리 조회 없음)
+     * - 접속 안 된 멤버는 offline 으로 집계
+     */
+    public GroupBroadcastResultDto sendAudioIndexToGroup(String groupId, int index, int repeat) {
+        validate(index, repeat);
+
+        Set<Integer> members = ampGroupService.members(groupId);
+        Map<Integer, Channel> connected = ampGroupService.connected(groupId);
+
+        long t0 = System.nanoTime();
+        List<CompletableFuture<GroupMemberResultDto>> futures = new ArrayList<>(members.size());
+        for (int ampId : members) {
+            CompletableFuture<Boolean> f;
+            try {
+                f = commandSender.sendIndexAsync(connected.get(ampId), ampId, index, repeat);
+            } catch (RuntimeException e) {
+                f = CompletableFuture.failedFuture(e);
+            }
+            futures.add(f.handle((ok, ex) -> {
+                long latencyMs = (System.nanoTime() - t0) / 1_000_000;
+                if (ex != null) return new GroupMemberResultDto(ampId, CommandResultUtil.classify(ex), latencyMs);
+                return new GroupMemberResultDto(ampId, ok ? CommandResultUtil.OK : CommandResultUtil.BUSY, latencyMs);
+            }));
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).join();
+
+        List<GroupMemberResultDto> results = futures.stream().map(CompletableFuture::join).toList();
+        int started = (int) results.stream().filter(r -> CommandResultUtil.OK.equals(r.getResult())).count();
+        long totalMs = (System.nanoTime() - t0) / 1_000_000;
+
+        log.info("[BROADCAST][GROUP][INDEX] groupId={} index={} members={} started={} totalMs={}",
+                groupId, index, members.size(), started, totalMs);
+        return new GroupBroadcastResultDto(groupId, members.size(), started, totalMs, results);
+    }
+
+    public static void validate(int index, int repeat) {
+        // 입력 검증
+        if (index < 1 || index > 100) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "Index 값은 1~100 사이여야 합니다.");
+        }
+        if (!RepeatValidatorUtil.isValid(repeat)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "repeat 값은 1~5 또는 255(무한) 이어야 합니다.");
+        }
+    }
 }
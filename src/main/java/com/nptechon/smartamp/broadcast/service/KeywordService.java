@@ -1,26 +1,74 @@
 package com.nptechon.smartamp.broadcast.service;
 
-import com.google.cloud.texttospeech.v1.*;
-import com.google.protobuf.ByteString;
+import com.nptechon.smartamp.broadcast.audio.Mp3FrameUtil;
+import com.nptechon.smartamp.broadcast.dto.GroupBroadcastResultDto;
 import com.nptechon.smartamp.broadcast.dto.KeywordBroadcastDto;
+import com.nptechon.smartamp.broadcast.dto.TtsCacheStatsDto;
+import com.nptechon.smartamp.broadcast.tts.TtsCache;
+import com.nptechon.smartamp.broadcast.tts.TtsEngine;
+import com.nptechon.smartamp.broadcast.tts.TtsTextSplitter;
+import com.nptechon.smartamp.global.config.TtsProperties;
 import com.nptechon.smartamp.global.error.CustomException;
 import com.nptechon.smartamp.global.error.ErrorCode;
+import com.nptechon.smartamp.group.service.AmpGroupService;
 import com.nptechon.smartamp.tcp.protocol.payload.StreamType;
 import com.nptechon.smartamp.tcp.util.RepeatValidatorUtil;
+import io.netty.channel.Channel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class KeywordService {
 
-    private final TextToSpeechClient ttsClient;              // Config에서 만든 Bean 주입
+    private final TtsEngine ttsEngine;                       // smartamp.tts.engine 으로 선택
     private final FileBroadcastService fileBroadcastService;
+    private final TtsCache ttsCache;
+    private final TtsProperties ttsProperties;
+    private final AmpGroupService ampGroupService;
+
+    // 동일 key 합성 요청 합치기 (single-flight)
+    private final ConcurrentHashMap<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+    private static final long COALESCE_WAIT_SECONDS = 30;
+
+    // FS 프레임에 실리는 파일명
+    private static final String KEYWORD_FILE_NAME = "keyword-tts.mp3";
+
+    // 긴 안내문 분할 합성용 (maxConcurrency 로 동시 합성 수 제한)
+    private ExecutorService chunkExecutor;
+
+    @PostConstruct
+    void initChunkExecutor() {
+        int threads = Math.max(1, ttsProperties.getChunk().getMaxConcurrency());
+        chunkExecutor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "tts-chunk");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdownChunkExecutor() {
+        chunkExecutor.shutdownNow();
+    }
 
     public KeywordBroadcastDto broadcastTts(int ampId, String content, int repeat) {
         if (content == null || content.isBlank()) {
@@ -31,11 +79,13 @@ public class KeywordService {
             throw new CustomException(ErrorCode.INVALID_REQUEST, "repeat 값은 1~5 또는 255(무한) 이어야 합니다.");
         }
 
-        Path mp3Path = null;
         try {
-            mp3Path = synthesizeToMp3File(content);
-
-            fileBroadcastService.sendMp3AsFile512(ampId, mp3Path, StreamType.KEYWORD, repeat);
+            // 0x04 핸드셰이크와 TTS 합성을 동시에 진행, 임시 파일 없이 메모리에서 바로 전송
+            fileBroadcastService.broadcastPipelined(
+                    ampId, StreamType.KEYWORD, repeat, KEYWORD_FILE_NAME,
+                    () -> synthesizeLong(content),
+                    mp3 -> mp3
+            );
 
             return new KeywordBroadcastDto(ampId, content, repeat);
         } catch (CustomException e) {
@@ -43,40 +93,153 @@ public class KeywordService {
         } catch (Exception e) {
             log.error("Keyword TTS broadcast failed", e);
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "TTS 방송 실패");
-        } finally {
-            if (mp3Path != null) {
-                try { Files.deleteIfExists(mp3Path); } catch (Exception ignore) {}
+        }
+    }
+
+    /**
+     * 그룹 TTS 방송: 합성 1회 → 수락한 멤버 전체에 같은 MP3 전송
+     */
+    public GroupBroadcastResultDto broadcastTtsToGroup(String groupId, String content, int repeat) {
+        if (content == null || content.isBlank()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "content가 비어있습니다.");
+        }
+
+        Set<Integer> members = ampGroupService.members(groupId);
+        Map<Integer, Channel> connected = ampGroupService.connected(groupId);
+
+        try {
+            return fileBroadcastService.broadcastPipelinedToGroup(
+                    groupId, members, connected, StreamType.KEYWORD, repeat, KEYWORD_FILE_NAME,
+                    () -> synthesizeLong(content),
+                    mp3 -> mp3
+            );
+        } catch (CustomException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Keyword TTS group broadcast failed groupId={}", groupId, e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "TTS 방송 실패");
+        }
+    }
+
+    /**
+     * 예약 방송용 사전 합성 (발송 시각 전에 미리 호출, 결과는 TTS 캐시에도 남음)
+     */
+    public byte[] prepareTts(String content) {
+        if (content == null || content.isBlank()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "content가 비어있습니다.");
+        }
+        return synthesizeLong(content);
+    }
+
+    /**
+     * 미리 합성해 둔 MP3 로 방송 (합성 단계 없이 0x04 → 전송)
+     */
+    public GroupBroadcastResultDto broadcastPrepared(String label, Set<Integer> members, Map<Integer, Channel> connected,
+                                                     byte[] mp3, int repeat) {
+        return fileBroadcastService.broadcastPipelinedToGroup(
+                label, members, connected, StreamType.KEYWORD, repeat, KEYWORD_FILE_NAME,
+                () -> mp3,
+                m -> m
+        );
+    }
+
+    /**
+     * 긴 텍스트는 문장 단위로 나눠 병렬 합성 후 프레임 경계 기준으로 이어붙임
+     * - 덩어리별로 캐시 / single-flight 를 그대로 탄다 (반복되는 문장은 재사용)
+     */
+    private byte[] synthesizeLong(String text) {
+        TtsProperties.Chunk chunk = ttsProperties.getChunk();
+        if (!chunk.isEnabled() || text.length() <= chunk.getMaxChars()) {
+            return synthesizeMp3(text);
+        }
+
+        List<String> parts = TtsTextSplitter.split(text, chunk.getMaxChars());
+        if (parts.size() <= 1) {
+            return synthesizeMp3(text);
+        }
+
+        long t0 = System.currentTimeMillis();
+        List<CompletableFuture<byte[]>> futures = new ArrayList<>(parts.size());
+        for (String part : parts) {
+            futures.add(CompletableFuture.supplyAsync(() -> synthesizeMp3(part), chunkExecutor));
+        }
+
+        List<byte[]> segments = new ArrayList<>(parts.size());
+        try {
+            for (CompletableFuture<byte[]> f : futures) {
+                segments.add(f.join());
             }
+        } catch (CompletionException e) {
+            futures.forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof CustomException ce) throw ce;
+            throw new CustomException(ErrorCode.TTS_FAILED, "TTS 분할 합성에 실패했습니다.", e.getCause());
         }
+
+        byte[] mp3 = Mp3FrameUtil.concat(segments);
+        log.info("[TTS] chunked chars={} chunks={} bytes={} durationMs={} tookMs={}",
+                text.length(), parts.size(), mp3.length, Mp3FrameUtil.durationMs(mp3), System.currentTimeMillis() - t0);
+        return mp3;
     }
 
-    private Path synthesizeToMp3File(String text) throws Exception {
-        // 텍스트 입력
-        SynthesisInput input = SynthesisInput.newBuilder()
-                .setText(text)
-                .build();
-
-        // 보이스 선택 (한국어 예시)
-        VoiceSelectionParams voice = VoiceSelectionParams.newBuilder()
-                .setLanguageCode("ko-KR")
-                // 필요하면 voiceName 지정 가능: "ko-KR-Neural2-A" 등
-                // .setName("ko-KR-Neural2-A")
-                .build();
-
-        // MP3 출력
-        AudioConfig audioConfig = AudioConfig.newBuilder()
-                .setAudioEncoding(AudioEncoding.MP3)
-                .build();
-
-        SynthesizeSpeechResponse response = ttsClient.synthesizeSpeech(input, voice, audioConfig);
-        ByteString audioContents = response.getAudioContent();
-
-        if (audioContents.isEmpty()) {
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "TTS 결과가 비어있습니다.");
+    private byte[] synthesizeMp3(String text) {
+        String languageCode = ttsProperties.getLanguageCode();
+        String voiceName = ttsProperties.getVoiceName();
+
+        // 같은 (text, voice, audio config) 면 캐시에서 바로
+        String key = TtsCache.key(text, languageCode, voiceName, ttsEngine.cacheTag());
+        Optional<byte[]> cached = ttsCache.get(key);
+        if (cached.isPresent()) {
+            return cached.get();
         }
 
-        Path tmp = Files.createTempFile("keyword-tts-", ".mp3");
-        Files.write(tmp, audioContents.toByteArray());
-        return tmp;
+        // 같은 phrase 가 이미 합성 중이면 그 결과를 같이 기다린다
+        CompletableFuture<byte[]> fresh = new CompletableFuture<>();
+        CompletableFuture<byte[]> leader = inFlight.putIfAbsent(key, fresh);
+        if (leader != null) {
+            log.info("[TTS] coalesced -> wait in-flight synthesis key={}", key);
+            return awaitInFlight(leader);
+        }
+
+        try {
+            // leader 등록 직전에 이전 leader 가 끝나고 캐시에 넣었을 수 있음
+            byte[] mp3 = ttsCache.peek(key).orElseGet(() -> {
+                byte[] synthesized = callTts(text, languageCode, voiceName);
+                ttsCache.put(key, synthesized);
+                return synthesized;
+            });
+            fresh.complete(mp3);
+            return mp3;
+        } catch (RuntimeException e) {
+            fresh.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, fresh);
+        }
+    }
+
+    private byte[] callTts(String text, String languageCode, String voiceName) {
+        long t0 = System.currentTimeMillis();
+        byte[] mp3 = ttsEngine.synthesizeMp3(text, languageCode, voiceName);
+        log.info("[TTS] synthesized engine={} chars={} bytes={} tookMs={}",
+                ttsEngine.getClass().getSimpleName(), text.length(), mp3.length, System.currentTimeMillis() - t0);
+        return mp3;
+    }
+
+    private static byte[] awaitInFlight(CompletableFuture<byte[]> leader) {
+        try {
+            return leader.get(COALESCE_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.TTS_FAILED, "TTS 대기 중 인터럽트가 발생했습니다.");
+        } catch (TimeoutException e) {
+            throw new CustomException(ErrorCode.TTS_FAILED, "TTS 합성 대기 시간이 초과되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomException ce) throw ce;
+            throw new CustomException(ErrorCode.TTS_FAILED, "TTS 합성에 실패했습니다.", e.getCause());
+        }
+    }
+
+    public TtsCacheStatsDto getCacheStats() {
+        return ttsCache.stats();
     }
 }
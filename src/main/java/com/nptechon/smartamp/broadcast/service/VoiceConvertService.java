@@ -1,10 +1,19 @@
 package com.nptechon.smartamp.broadcast.service;
 
+import com.nptechon.smartamp.broadcast.audio.Mp3BitrateSelector;
+import com.nptechon.smartamp.broadcast.audio.WavSilenceTrimmer;
+import com.nptechon.smartamp.broadcast.dto.GroupBroadcastResultDto;
 import com.nptechon.smartamp.broadcast.dto.VoiceBroadcastResultDto;
+import com.nptechon.smartamp.global.config.AudioPreprocessProperties;
 import com.nptechon.smartamp.global.config.UploadProperties;
 import com.nptechon.smartamp.global.error.CustomException;
 import com.nptechon.smartamp.global.error.ErrorCode;
+import com.nptechon.smartamp.group.service.AmpGroupService;
+import com.nptechon.smartamp.tcp.codec.FileFrameEncoder;
 import com.nptechon.smartamp.tcp.protocol.payload.StreamType;
+import io.netty.channel.Channel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,7 +21,12 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.*;
 import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
@@ -22,7 +36,10 @@ import java.util.concurrent.TimeUnit;
 public class VoiceConvertService {
 
     private final UploadProperties uploadProperties;
+    private final AudioPreprocessProperties preprocessProperties;
     private final FileBroadcastService fileBroadcastService;
+    private final Mp3BitrateSelector bitrateSelector;
+    private final AmpGroupService ampGroupService;
 
     /**
      * EC2 프리티어 안정 운영용: 동시 변환 1개로 제한
@@ -32,9 +49,6 @@ public class VoiceConvertService {
             new Semaphore(MAX_CONCURRENT_CONVERSIONS, true);
     private static final long ACQUIRE_TIMEOUT_SECONDS = 10;
 
-
-
-
     public VoiceBroadcastResultDto uploadAndBroadcast(MultipartFile file, int ampId, int repeat) {
         if (file == null || file.isEmpty()) {
             throw new CustomException(ErrorCode.VOICE_FILE_EMPTY);
@@ -46,59 +60,127 @@ public class VoiceConvertService {
         String mp3Name = System.currentTimeMillis() + "_voice.mp3";
         Path targetMp3 = dir.resolve(mp3Name);
 
-        long startMs = System.currentTimeMillis();
-
         try {
             acquired = acquirePermit();
 
-            try (InputStream wavStream = file.getInputStream()) {
+            byte[] wav = file.getBytes();
 
-                log.info("convert start: ampId={}, origName={}, size={}",
-                        ampId, file.getOriginalFilename(), file.getSize());
+            log.info("convert start: ampId={}, origName={}, size={}",
+                    ampId, file.getOriginalFilename(), file.getSize());
 
-                // 1) WAV -> MP3
-                convertToMp3AndSave(wavStream, targetMp3);
+            // 0x04 핸드셰이크(busy 확인)와 변환을 동시에 진행 → 둘 다 OK면 전송 시작 (비동기)
+            Converted c = fileBroadcastService.broadcastPipelined(
+                    ampId, StreamType.MIC, repeat, mp3Name,
+                    () -> convert(wav, bitrateSelector.select(ampId), targetMp3),
+                    Converted::getMp3
+            );
+            log.info("file512 send started: ampId={}, mp3={}", ampId, targetMp3);
 
-                long mp3Size = Files.size(targetMp3);
-                long tookMs = System.currentTimeMillis() - startMs;
+            long mp3Size = c.getMp3().length;
+            int kbps = c.getKbps();
+            WavSilenceTrimmer.Result trim = c.getTrim();
 
-                log.info("convert done: ampId={}, savedAs={}, mp3Size={}, tookMs={}",
-                        ampId, mp3Name, mp3Size, tookMs);
+            // 잘라낸 구간이 그대로 인코딩됐을 경우 대비 절감량 (bitrate 기준 추정치)
+            long savedBytes = trim.getTrimmedMs() * kbps / 8;
+            int savedFrames = frameCount(mp3Size + savedBytes) - frameCount(mp3Size);
 
-                // 2) 변환 성공 -> 앰프로 파일 전송 시작 (비동기)
-                fileBroadcastService.sendMp3AsFile512(ampId, targetMp3, StreamType.MIC, repeat);
-                log.info("file512 send started: ampId={}, mp3={}", ampId, targetMp3);
+            log.info("convert done: ampId={}, savedAs={}, mp3Size={}, bitrate={}k, tookMs={}, trimmedMs={}, savedBytes={}, savedFrames={}",
+                    ampId, mp3Name, mp3Size, kbps, c.getTookMs(), trim.getTrimmedMs(), savedBytes, savedFrames);
 
-                // 전송 요청 성공 후 바로 삭제
-                safeDelete(targetMp3);
-                log.info("file delete: mp3={}", targetMp3);
+            return new VoiceBroadcastResultDto(ampId, mp3Name, mp3Size, c.getTookMs(), 0x01, targetMp3,
+                    trim.getTrimmedMs(), savedBytes, savedFrames, kbps);
 
-                return new VoiceBroadcastResultDto(ampId, mp3Name, mp3Size, tookMs, 0x01, targetMp3);
-            }
+        } catch (CustomException ce) {
+            // 서비스 내부에서 이미 ErrorCode로 던진 경우는 그대로 전달
+            safeDelete(targetMp3);
+            throw ce;
 
-        } catch (InterruptedException ie) {
-            Thread.currentThread().interrupt();
-            log.warn("voice upload interrupted: ampId={}", ampId, ie);
+        } catch (IllegalStateException e) {
+            safeDelete(targetMp3);
+
+            // 변환(producer) 스레드가 interrupt 된 경우는 기존처럼 업로드 중단으로 응답
+            if (e.getCause() instanceof InterruptedException ie) {
+                log.warn("voice upload interrupted: ampId={}", ampId, ie);
+                throw new CustomException(
+                        ErrorCode.VOICE_UPLOAD_INTERRUPTED,
+                        "interrupted: " + ie.getMessage()
+                );
+            }
+            throw new CustomException(
+                    ErrorCode.VOICE_CONVERT_FAILED,
+                    e.getMessage(),
+                    e
+            );
+        } catch (Exception e) {
+            log.error("voice upload/convert/broadcast failed: ampId={}", ampId, e);
 
             safeDelete(targetMp3);
             throw new CustomException(
-                    ErrorCode.VOICE_UPLOAD_INTERRUPTED,
-                    "interrupted: " + ie.getMessage()
+                    ErrorCode.VOICE_CONVERT_FAILED,
+                    e.getMessage()
+            );
+
+        } finally {
+            if (acquired) {
+                CONVERT_SEMAPHORE.release();
+                log.debug("permit released: availablePermits={}", CONVERT_SEMAPHORE.availablePermits());
+            }
+        }
+    }
+
+    /**
+     * 그룹 음성 방송: 변환 1회 → 수락한 멤버 전체에 같은 MP3 전송
+     * - bitrate 는 접속 중인 멤버 중 가장 느린 링크 기준
+     */
+    public GroupBroadcastResultDto uploadAndBroadcastToGroup(MultipartFile file, String groupId, int repeat) {
+        if (file == null || file.isEmpty()) {
+            throw new CustomException(ErrorCode.VOICE_FILE_EMPTY);
+        }
+
+        Set<Integer> members = ampGroupService.members(groupId);
+        Map<Integer, Channel> connected = ampGroupService.connected(groupId);
+
+        boolean acquired = false;
+
+        Path dir = ensureUploadDir();
+        String mp3Name = System.currentTimeMillis() + "_voice.mp3";
+        Path targetMp3 = dir.resolve(mp3Name);
+
+        try {
+            acquired = acquirePermit();
+
+            byte[] wav = file.getBytes();
+
+            log.info("group convert start: groupId={}, members={}, connected={}, size={}",
+                    groupId, members.size(), connected.size(), file.getSize());
+
+            return fileBroadcastService.broadcastPipelinedToGroup(
+                    groupId, members, connected, StreamType.MIC, repeat, mp3Name,
+                    () -> convert(wav, slowestKbps(connected.keySet()), targetMp3),
+                    Converted::getMp3
             );
 
         } catch (CustomException ce) {
-            // 서비스 내부에서 이미 ErrorCode로 던진 경우는 그대로 전달
             safeDelete(targetMp3);
             throw ce;
 
         } catch (IllegalStateException e) {
+            safeDelete(targetMp3);
+
+            if (e.getCause() instanceof InterruptedException ie) {
+                log.warn("group voice upload interrupted: groupId={}", groupId, ie);
+                throw new CustomException(
+                        ErrorCode.VOICE_UPLOAD_INTERRUPTED,
+                        "interrupted: " + ie.getMessage()
+                );
+            }
             throw new CustomException(
                     ErrorCode.VOICE_CONVERT_FAILED,
                     e.getMessage(),
                     e
             );
         } catch (Exception e) {
-            log.error("voice upload/convert/broadcast failed: ampId={}", ampId, e);
+            log.error("group voice upload/convert/broadcast failed: groupId={}", groupId, e);
 
             safeDelete(targetMp3);
             throw new CustomException(
@@ -114,6 +196,43 @@ public class VoiceConvertService {
         }
     }
 
+    private int slowestKbps(Collection<Integer> ampIds) {
+        int kbps = Integer.MAX_VALUE;
+        for (int ampId : ampIds) {
+            kbps = Math.min(kbps, bitrateSelector.select(ampId));
+        }
+        return (kbps == Integer.MAX_VALUE) ? bitrateSelector.select(-1) : kbps;
+    }
+
+    /**
+     * 전처리 + WAV → MP3 (파이프라인 producer, 별도 스레드에서 실행)
+     * - 변환 결과는 메모리로 읽고 파일은 바로 삭제
+     */
+    private Converted convert(byte[] wav, int kbps, Path targetMp3) throws IOException, InterruptedException {
+        long startMs = System.currentTimeMillis();
+        try {
+            // 0) 전처리: 앞/뒤 무음 제거
+            WavSilenceTrimmer.Result trim = preprocess(wav);
+
+            // 1) WAV -> MP3 (+ loudnorm), bitrate 는 앰프 링크 속도 기준
+            convertToMp3AndSave(new ByteArrayInputStream(trim.getWav()), targetMp3, trim.getSampleRate(), kbps);
+
+            byte[] mp3 = Files.readAllBytes(targetMp3);
+            return new Converted(trim, kbps, mp3, System.currentTimeMillis() - startMs);
+        } finally {
+            safeDelete(targetMp3);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Converted {
+        private final WavSilenceTrimmer.Result trim;
+        private final int kbps;
+        private final byte[] mp3;
+        private final long tookMs;
+    }
+
     private boolean acquirePermit() {
         try {
             boolean acquired = CONVERT_SEMAPHORE.tryAcquire(
@@ -148,6 +267,27 @@ public class VoiceConvertService {
         }
     }
 
+    private WavSilenceTrimmer.Result preprocess(byte[] wav) {
+        if (!preprocessProperties.isEnabled() || !preprocessProperties.isTrimSilence()) {
+            return new WavSilenceTrimmer.Result(wav, false, 0, 0, 0);
+        }
+
+        WavSilenceTrimmer.Result r = WavSilenceTrimmer.trim(
+                wav,
+                preprocessProperties.getSilenceThresholdDb(),
+                preprocessProperties.getWindowMs(),
+                preprocessProperties.getPaddingMs()
+        );
+        log.info("[AUDIO][TRIM] applied={} originalMs={} trimmedMs={} wavBytes {} -> {}",
+                r.isApplied(), r.getOriginalMs(), r.getTrimmedMs(), wav.length, r.getWav().length);
+        return r;
+    }
+
+    // FS/FE 제외한 FD 프레임 수
+    private static int frameCount(long bytes) {
+        return (int) ((bytes + FileFrameEncoder.DATA_SIZE - 1) / FileFrameEncoder.DATA_SIZE);
+    }
+
     private void safeDelete(Path p) {
         if (p == null) return;
         try { Files.deleteIfExists(p); } catch (Exception ignore) {}
@@ -156,10 +296,10 @@ public class VoiceConvertService {
     /**
      * WAV → MP3 변환 (ffmpeg)
      */
-    private void convertToMp3AndSave(InputStream wavStream, Path outputMp3)
+    private void convertToMp3AndSave(InputStream wavStream, Path outputMp3, int sampleRate, int kbps)
             throws IOException, InterruptedException {
 
-        List<String> cmd = List.of(
+        List<String> cmd = new ArrayList<>(List.of(
                 uploadProperties.getFfmpegPath(),
                 "-y",
                 "-hide_banner",
@@ -167,11 +307,25 @@ public class VoiceConvertService {
                 "-f", "wav",
                 "-i", "pipe:0",
                 "-vn",
-                "-ac", "1",
-                "-b:a", "96k",
+                "-ac", "1"
+        ));
+
+        if (preprocessProperties.isEnabled() && preprocessProperties.isNormalizeLoudness()) {
+            cmd.add("-af");
+            cmd.add(String.format(Locale.ROOT, "loudnorm=I=%.1f:TP=%.1f:LRA=%.1f",
+                    preprocessProperties.getTargetLufs(),
+                    preprocessProperties.getTruePeakDb(),
+                    preprocessProperties.getLoudnessRange()));
+            // loudnorm 은 출력 샘플레이트를 192kHz 로 올리므로 원본 기준으로 되돌림
+            cmd.add("-ar");
+            cmd.add(String.valueOf(sampleRate > 0 ? sampleRate : 44100));
+        }
+
+        cmd.addAll(List.of(
+                "-b:a", kbps + "k",
                 "-codec:a", "libmp3lame",
                 outputMp3.toAbsolutePath().toString()
-        );
+        ));
 
         ProcessBuilder pb = new ProcessBuilder(cmd);
         Process p = pb.start();
@@ -188,7 +342,14 @@ public class VoiceConvertService {
             wavStream.transferTo(ffmpegIn);
         }
 
-        boolean finished = p.waitFor(60, TimeUnit.SECONDS);
+        boolean finished;
+        try {
+            finished = p.waitFor(60, TimeUnit.SECONDS);
+        } catch (InterruptedException ie) {
+            // 핸드셰이크 실패로 파이프라인이 취소된 경우 ffmpeg 도 같이 정리
+            p.destroyForcibly();
+            throw ie;
+        }
         if (!finished) {
             p.destroyForcibly();
             throw new IOException("ffmpeg timeout");
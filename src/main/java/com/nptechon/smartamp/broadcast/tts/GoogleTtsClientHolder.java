@@ -0,0 +1,97 @@
+package com.nptechon.smartamp.broadcast.tts;
+
+import com.google.cloud.texttospeech.v1.TextToSpeechClient;
+import com.nptechon.smartamp.global.error.CustomException;
+import com.nptechon.smartamp.global.error.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Google TTS gRPC 클라이언트 지연 생성
+ * - 인증 로딩 / 채널 생성이 Spring 기동(=TCP 리스너 오픈)을 막지 않도록 별도 스레드에서 만든다
+ * - background: 빈 생성 시점에 바로 생성 시작
+ * - lazy      : 첫 합성 요청 때 생성 시작
+ */
+@Slf4j
+public class GoogleTtsClientHolder implements AutoCloseable {
+
+    private final Callable<TextToSpeechClient> factory;
+    private final long waitMs;
+
+    private volatile CompletableFuture<TextToSpeechClient> future;
+    private volatile long initMs = -1;
+
+    public GoogleTtsClientHolder(Callable<TextToSpeechClient> factory, long waitMs) {
+        this.factory = factory;
+        this.waitMs = waitMs;
+    }
+
+    public synchronized void start() {
+        if (future != null) return;
+
+        CompletableFuture<TextToSpeechClient> f = new CompletableFuture<>();
+        future = f;
+
+        Thread t = new Thread(() -> {
+            long t0 = System.currentTimeMillis();
+            try {
+                TextToSpeechClient client = factory.call();
+                initMs = System.currentTimeMillis() - t0;
+                log.info("[TTS][INIT] Google TTS client ready tookMs={}", initMs);
+                f.complete(client);
+            } catch (Throwable e) {
+                log.error("[TTS][INIT] Google TTS client init failed tookMs={}", System.currentTimeMillis() - t0, e);
+                f.completeExceptionally(e);
+            }
+        }, "tts-client-init");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    /**
+     * 준비된 클라이언트 (아직 생성 중이면 waitMs 까지 대기)
+     */
+    public TextToSpeechClient client() {
+        start();
+
+        CompletableFuture<TextToSpeechClient> f = future;
+        try {
+            return f.get(waitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.TTS_FAILED, "TTS 클라이언트 대기 중 인터럽트가 발생했습니다.");
+        } catch (TimeoutException e) {
+            throw new CustomException(ErrorCode.TTS_FAILED, "TTS 클라이언트가 아직 준비되지 않았습니다.");
+        } catch (ExecutionException e) {
+            // 실패한 생성은 다음 요청에서 다시 시도
+            retryLater(f);
+            throw new CustomException(ErrorCode.TTS_FAILED, "TTS 클라이언트 생성에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private synchronized void retryLater(CompletableFuture<TextToSpeechClient> failed) {
+        if (future == failed) future = null;
+    }
+
+    public boolean isReady() {
+        CompletableFuture<TextToSpeechClient> f = future;
+        return f != null && f.isDone() && !f.isCompletedExceptionally();
+    }
+
+    public long getInitMs() {
+        return initMs;
+    }
+
+    @Override
+    public void close() {
+        CompletableFuture<TextToSpeechClient> f = future;
+        if (f != null && isReady()) {
+            f.join().close();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.nptechon.smartamp.broadcast.tts;
+
+import com.google.cloud.texttospeech.v1.*;
+import com.google.protobuf.ByteString;
+import com.nptechon.smartamp.global.error.CustomException;
+import com.nptechon.smartamp.global.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "smartamp.tts", name = "engine", havingValue = "google", matchIfMissing = true)
+public class GoogleTtsEngine implements TtsEngine {
+
+    // MP3 출력
+    private static final AudioConfig AUDIO_CONFIG = AudioConfig.newBuilder()
+            .setAudioEncoding(AudioEncoding.MP3)
+            .build();
+
+    private final GoogleTtsClientHolder clientHolder;        // 클라이언트는 백그라운드/지연 생성
+
+    @Override
+    public byte[] synthesizeMp3(String text, String languageCode, String voiceName) {
+        // 텍스트 입력
+        SynthesisInput input = SynthesisInput.newBuilder()
+                .setText(text)
+                .build();
+
+        // 보이스 선택 (기본 한국어)
+        VoiceSelectionParams.Builder voice = VoiceSelectionParams.newBuilder()
+                .setLanguageCode(languageCode);
+        // 필요하면 voiceName 지정 가능: "ko-KR-Neural2-A" 등
+        if (voiceName != null && !voiceName.isBlank()) {
+            voice.setName(voiceName);
+        }
+
+        SynthesizeSpeechResponse response = clientHolder.client().synthesizeSpeech(input, voice.build(), AUDIO_CONFIG);
+        ByteString audioContents = response.getAudioContent();
+
+        if (audioContents.isEmpty()) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "TTS 결과가 비어있습니다.");
+        }
+        return audioContents.toByteArray();
+    }
+
+    @Override
+    public boolean isReady() {
+        return clientHolder.isReady();
+    }
+
+    @Override
+    public String cacheTag() {
+        return AUDIO_CONFIG.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package com.nptechon.smartamp.broadcast.tts;
+
+import com.nptechon.smartamp.global.config.TtsProperties;
+import com.nptechon.smartamp.global.error.CustomException;
+import com.nptechon.smartamp.global.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * 부하 테스트 / 오프라인용 TTS 엔진
+ * - cannedFile 이 있으면 그 MP3 를 그대로 반환
+ * - 없으면 텍스트 길이에 비례한 길이의 무음 MP3 프레임 생성
+ * - latencyMs 만큼 지연시켜 실제 TTS 왕복 시간을 흉내냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "smartamp.tts", name = "engine", havingValue = "local")
+public class LocalTtsEngine implements TtsEngine {
+
+    // MPEG-1 Layer III, 32kbps, 44.1kHz, mono, no CRC
+    private static final byte[] FRAME_HEADER = { (byte) 0xFF, (byte) 0xFB, (byte) 0x10, (byte) 0xC0 };
+    // 144 * 32000 / 44100 (padding 없음)
+    private static final int FRAME_LENGTH = 104;
+    // 1152 samples / 44100Hz
+    private static final double FRAME_MS = 1152 * 1000.0 / 44100;
+
+    private final TtsProperties ttsProperties;
+
+    @Override
+    public byte[] synthesizeMp3(String text, String languageCode, String voiceName) {
+        TtsProperties.Local local = ttsProperties.getLocal();
+
+        if (local.getLatencyMs() > 0) {
+            try {
+                Thread.sleep(local.getLatencyMs());
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new CustomException(ErrorCode.TTS_FAILED, "interrupted");
+            }
+        }
+
+        String canned = local.getCannedFile();
+        if (canned != null && !canned.isBlank()) {
+            try {
+                return Files.readAllBytes(Paths.get(canned));
+            } catch (IOException e) {
+                throw new CustomException(ErrorCode.TTS_FAILED, "canned mp3 read failed: " + e.getMessage(), e);
+            }
+        }
+
+        long durationMs = Math.max(1000, (long) text.length() * local.getMsPerChar());
+        return silentMp3(durationMs);
+    }
+
+    @Override
+    public String cacheTag() {
+        TtsProperties.Local local = ttsProperties.getLocal();
+        return "local:" + local.getCannedFile() + ":" + local.getMsPerChar();
+    }
+
+    // side info / main data 가 0 인 프레임은 디코더에서 무음으로 재생됨
+    static byte[] silentMp3(long durationMs) {
+        int frames = (int) Math.ceil(durationMs / FRAME_MS);
+        byte[] out = new byte[frames * FRAME_LENGTH];
+        for (int i = 0; i < frames; i++) {
+            System.arraycopy(FRAME_HEADER, 0, out, i * FRAME_LENGTH, FRAME_HEADER.length);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,262 @@
+package com.nptechon.smartamp.broadcast.tts;
+
+import com.nptechon.smartamp.broadcast.dto.TtsCacheStatsDto;
+import com.nptechon.smartamp.global.config.TtsProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * TTS 결과(MP3) 캐시
+ * - key: SHA-256(text, language, voice, audio config)
+ * - 1차: in-heap LRU (memoryMaxBytes)
+ * - 2차: 디스크 <dir>/<key>.mp3 (diskMaxBytes, 오래 안 쓴 파일부터 삭제)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TtsCache {
+
+    private static final String EXT = ".mp3";
+    private static final String TMP_EXT = ".tmp";
+
+    private final TtsProperties ttsProperties;
+
+    // access-order LinkedHashMap = LRU
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(64, 0.75f, true);
+    private long memoryBytes;
+
+    private final AtomicLong diskBytes = new AtomicLong();
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private Path dir;
+
+    @PostConstruct
+    void init() {
+        TtsProperties.Cache c = ttsProperties.getCache();
+        if (!c.isEnabled()) return;
+
+        dir = Paths.get(c.getDir());
+        try {
+            Files.createDirectories(dir);
+            deleteStaleTemps();
+            try (Stream<Path> files = Files.list(dir)) {
+                diskBytes.set(files.filter(p -> p.toString().endsWith(EXT)).mapToLong(TtsCache::sizeOf).sum());
+            }
+            log.info("[TTS][CACHE] disk dir={} bytes={}", dir.toAbsolutePath(), diskBytes.get());
+        } catch (IOException e) {
+            log.warn("[TTS][CACHE] disk tier disabled dir={} cause={}", dir, e.toString());
+            dir = null;
+        }
+    }
+
+    public static String key(String text, String languageCode, String voiceName, String audioConfig) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            for (String part : new String[] { text, languageCode, voiceName, audioConfig }) {
+                md.update((part == null ? "" : part).getBytes(StandardCharsets.UTF_8));
+                md.update((byte) 0); // 구분자
+            }
+            byte[] hash = md.digest();
+            StringBuilder sb = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                sb.append(Character.forDigit((b >>> 4) & 0xF, 16));
+                sb.append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (Exception e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public Optional<byte[]> get(String key) {
+        return lookup(key, true);
+    }
+
+    // hit/miss 통계에 잡지 않는 조회 (single-flight leader 의 재확인용)
+    public Optional<byte[]> peek(String key) {
+        return lookup(key, false);
+    }
+
+    private Optional<byte[]> lookup(String key, boolean count) {
+        if (!ttsProperties.getCache().isEnabled()) return Optional.empty();
+
+        synchronized (memory) {
+            byte[] hit = memory.get(key);
+            if (hit != null) {
+                if (count) memoryHits.incrementAndGet();
+                log.info("[TTS][CACHE] memory hit key={}", key);
+                return Optional.of(hit);
+            }
+        }
+
+        if (dir != null) {
+            Path file = dir.resolve(key + EXT);
+            try {
+                byte[] bytes = Files.readAllBytes(file);
+                Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+                putMemory(key, bytes);
+                if (count) diskHits.incrementAndGet();
+                log.info("[TTS][CACHE] disk hit key={} bytes={}", key, bytes.length);
+                return Optional.of(bytes);
+            } catch (NoSuchFileException ignore) {
+                // miss
+            } catch (IOException e) {
+                log.warn("[TTS][CACHE] disk read failed key={} cause={}", key, e.toString());
+            }
+        }
+
+        if (count) misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    public void put(String key, byte[] mp3) {
+        if (!ttsProperties.getCache().isEnabled() || mp3 == null || mp3.length == 0) return;
+
+        putMemory(key, mp3);
+        putDisk(key, mp3);
+    }
+
+    private void putMemory(String key, byte[] mp3) {
+        long max = ttsProperties.getCache().getMemoryMaxBytes();
+        if (mp3.length > max) return;
+
+        synchronized (memory) {
+            byte[] prev = memory.put(key, mp3);
+            memoryBytes += mp3.length - (prev == null ? 0 : prev.length);
+
+            Iterator<Map.Entry<String, byte[]>> it = memory.entrySet().iterator();
+            while (memoryBytes > max && it.hasNext()) {
+                Map.Entry<String, byte[]> eldest = it.next();
+                memoryBytes -= eldest.getValue().length;
+                it.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private void putDisk(String key, byte[] mp3) {
+        if (dir == null) return;
+
+        Path file = dir.resolve(key + EXT);
+        if (Files.exists(file)) return;
+
+        Path tmp = null;
+        try {
+            // 임시 파일에 쓰고 publish → 읽는 쪽에서 반쯤 쓰인 파일을 보지 않도록
+            tmp = Files.createTempFile(dir, key, TMP_EXT);
+            Files.write(tmp, mp3);
+            // 같은 key 를 동시에 쓴 경우 실제로 파일을 만든 쪽만 용량에 더한다
+            if (!publish(tmp, file)) return;
+            diskBytes.addAndGet(mp3.length);
+        } catch (IOException e) {
+            log.warn("[TTS][CACHE] disk write failed key={} cause={}", key, e.toString());
+            return;
+        } finally {
+            if (tmp != null) deleteQuietly(tmp);
+        }
+
+        if (diskBytes.get() > ttsProperties.getCache().getDiskMaxBytes()) {
+            evictDisk();
+        }
+    }
+
+    /**
+     * tmp → file. file 을 새로 만들었으면 true, 이미 있었으면 false
+     * - hard link 는 대상이 있으면 실패하므로 exists 확인과 생성이 원자적
+     * - link 를 못 쓰는 파일시스템이면 덮어쓰지 않는 move 로 대체
+     */
+    private static boolean publish(Path tmp, Path file) throws IOException {
+        try {
+            Files.createLink(file, tmp);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return false;
+        } catch (UnsupportedOperationException e) {
+            try {
+                Files.move(tmp, file);
+                return true;
+            } catch (FileAlreadyExistsException ex) {
+                return false;
+            }
+        }
+    }
+
+    // 이전 실행에서 move 전에 죽어 남은 임시 파일
+    private void deleteStaleTemps() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            files.filter(p -> p.toString().endsWith(TMP_EXT)).forEach(p -> {
+                deleteQuietly(p);
+                log.info("[TTS][CACHE] stale temp deleted file={}", p.getFileName());
+            });
+        }
+    }
+
+    private static void deleteQuietly(Path p) {
+        try { Files.deleteIfExists(p); } catch (IOException ignore) { }
+    }
+
+    // 오래 안 쓴 파일부터 삭제
+    private synchronized void evictDisk() {
+        long max = ttsProperties.getCache().getDiskMaxBytes();
+        try (Stream<Path> files = Files.list(dir)) {
+            List<Path> sorted = files
+                    .filter(p -> p.toString().endsWith(EXT))
+                    .sorted(Comparator.comparingLong(TtsCache::lastModified))
+                    .toList();
+
+            for (Path p : sorted) {
+                if (diskBytes.get() <= max) break;
+                long size = sizeOf(p);
+                if (Files.deleteIfExists(p)) {
+                    diskBytes.addAndGet(-size);
+                    evictions.incrementAndGet();
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[TTS][CACHE] disk evict failed cause={}", e.toString());
+        }
+    }
+
+    public TtsCacheStatsDto stats() {
+        long mh = memoryHits.get(), dh = diskHits.get(), m = misses.get();
+        long total = mh + dh + m;
+        synchronized (memory) {
+            return new TtsCacheStatsDto(
+                    mh, dh, m,
+                    total == 0 ? 0.0 : (double) (mh + dh) / total,
+                    memory.size(),
+                    memoryBytes,
+                    diskBytes.get(),
+                    evictions.get()
+            );
+        }
+    }
+
+    private static long sizeOf(Path p) {
+        try { return Files.size(p); } catch (IOException e) { return 0; }
+    }
+
+    private static long lastModified(Path p) {
+        try { return Files.getLastModifiedTime(p).toMillis(); } catch (IOException e) { return 0; }
+    }
+}
@@ -0,0 +1,26 @@
+package com.nptechon.smartamp.broadcast.tts;
+
+/**
+ * 텍스트 → MP3 합성 엔진
+ * - google: Google Cloud TTS (기본)
+ * - local : 네트워크/인증 없이 동작하는 부하 테스트용 엔진
+ *
+ * smartamp.tts.engine 값으로 선택
+ */
+public interface TtsEngine {
+
+    byte[] synthesizeMp3(String text, String languageCode, String voiceName);
+
+    /**
+     * 캐시 key 에 섞을 엔진/출력 설정 식별자
+     * - 엔진이나 오디오 설정이 바뀌면 다른 key 가 되도록
+     */
+    String cacheTag();
+
+    /**
+     * 바로 합성 가능한 상태인지 (/health/ready 에 노출)
+     */
+    default boolean isReady() {
+        return true;
+    }
+}
@@ -0,0 +1,63 @@
+package com.nptechon.smartamp.broadcast.tts;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 긴 안내문을 문장 경계 기준으로 maxChars 이하 덩어리로 나눈다
+ * - 문장 하나가 maxChars 보다 길면 공백 기준으로 다시 자름
+ */
+public final class TtsTextSplitter {
+
+    private TtsTextSplitter() {}
+
+    // 문장부호 뒤 공백 / 줄바꿈
+    private static final Pattern SENTENCE_END = Pattern.compile("(?<=[.!?。！？])\\s+|\\n+");
+
+    public static List<String> split(String text, int maxChars) {
+        List<String> chunks = new ArrayList<>();
+        if (text == null || text.isBlank()) return chunks;
+
+        StringBuilder cur = new StringBuilder();
+        for (String sentence : SENTENCE_END.split(text.trim())) {
+            String s = sentence.trim();
+            if (s.isEmpty()) continue;
+
+            if (s.length() > maxChars) {
+                flush(cur, chunks);
+                splitLong(s, maxChars, chunks);
+                continue;
+            }
+
+            if (cur.length() > 0 && cur.length() + 1 + s.length() > maxChars) {
+                flush(cur, chunks);
+            }
+            if (cur.length() > 0) cur.append(' ');
+            cur.append(s);
+        }
+        flush(cur, chunks);
+        return chunks;
+    }
+
+    private static void splitLong(String s, int maxChars, List<String> chunks) {
+        int start = 0;
+        while (start < s.length()) {
+            int end = Math.min(s.length(), start + maxChars);
+            if (end < s.length()) {
+                int space = s.lastIndexOf(' ', end);
+                if (space > start) end = space;
+            }
+            String part = s.substring(start, end).trim();
+            if (!part.isEmpty()) chunks.add(part);
+            start = end;
+        }
+    }
+
+    private static void flush(StringBuilder cur, List<String> chunks) {
+        if (cur.length() > 0) {
+            chunks.add(cur.toString());
+            cur.setLength(0);
+        }
+    }
+}
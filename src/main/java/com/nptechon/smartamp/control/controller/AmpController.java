@@ -1,6 +1,8 @@
 package com.nptechon.smartamp.control.controller;
 
 import com.nptechon.smartamp.control.service.AmpService;
+import com.nptechon.smartamp.control.dto.BulkControlRequestDto;
+import com.nptechon.smartamp.control.dto.BulkResponseDto;
 import com.nptechon.smartamp.control.dto.ControlRequestDto;
 import com.nptechon.smartamp.control.dto.ControlResponseDto;
 import com.nptechon.smartamp.control.dto.StatusResponseDto;
@@ -11,6 +13,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -50,4 +54,38 @@ public class AmpController {
         );
     }
 
+    @GetMapping("/bulk/status")
+    public ResponseEntity<ApiResponse<BulkResponseDto>> getStatusBulk(@RequestParam(required = false) List<Integer> ampIds,
+                                                                  @RequestParam(required = false) String groupId,
+                                                                  HttpServletRequest request) {
+
+        BulkResponseDto response = ampService.getStatusBulk(ampIds, groupId);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "앰프 전원 상태 일괄 조회 성공",
+                        response,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+
+    @PostMapping("/bulk/control")
+    public ResponseEntity<ApiResponse<BulkResponseDto>> setPowerBulk(@RequestBody BulkControlRequestDto requestDto, HttpServletRequest request) {
+
+        BulkResponseDto response = ampService.setPowerBulk(requestDto.getAmpIds(), requestDto.getGroupId(), requestDto.getPowerCommand());
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "OK",
+                        "전원 일괄 제어 요청 성공",
+                        response,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+
 }
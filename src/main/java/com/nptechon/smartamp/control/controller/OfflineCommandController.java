@@ -0,0 +1,89 @@
+package com.nptechon.smartamp.control.controller;
+
+import com.nptechon.smartamp.control.dto.OfflineCommandDto;
+import com.nptechon.smartamp.control.dto.OfflineCommandRequestDto;
+import com.nptechon.smartamp.control.service.OfflineCommandService;
+import com.nptechon.smartamp.global.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 앰프가 오프라인이어도 바로 실패하지 않고 보관했다가 재접속 시 전송하는 명령 API
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/amp/offline")
+public class OfflineCommandController {
+
+    private final OfflineCommandService offlineCommandService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<OfflineCommandDto>> enqueue(@RequestBody OfflineCommandRequestDto dto, HttpServletRequest request) {
+        log.info("offline command.. AmpID: {}, type: {}, ttlMs: {}", dto.getAmpId(), dto.getType(), dto.getTtlMs());
+
+        OfflineCommandDto result = offlineCommandService.enqueue(dto);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "오프라인 명령 보관 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+
+    @GetMapping("/{commandId}")
+    public ResponseEntity<ApiResponse<OfflineCommandDto>> get(@PathVariable String commandId,
+                                                              @RequestParam(defaultValue = "0") long waitMs,
+                                                              HttpServletRequest request) {
+        OfflineCommandDto result = offlineCommandService.get(commandId, waitMs);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "오프라인 명령 조회 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+
+    @DeleteMapping("/{commandId}")
+    public ResponseEntity<ApiResponse<OfflineCommandDto>> cancel(@PathVariable String commandId, HttpServletRequest request) {
+        OfflineCommandDto result = offlineCommandService.cancel(commandId);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "오프라인 명령 취소 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<OfflineCommandDto>>> pending(@RequestParam int ampId, HttpServletRequest request) {
+        List<OfflineCommandDto> result = offlineCommandService.pending(ampId);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "오프라인 보관 명령 조회 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+}
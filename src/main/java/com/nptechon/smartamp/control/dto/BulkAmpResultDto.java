@@ -0,0 +1,13 @@
+package com.nptechon.smartamp.control.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BulkAmpResultDto {
+    private int ampId;
+    private String result;   // ok / offline / timeout / error
+    private String status;   // "ON" / "OFF" (result=ok 일 때만)
+    private long latencyMs;
+}
@@ -0,0 +1,14 @@
+package com.nptechon.smartamp.control.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BulkControlRequestDto {
+    private List<Integer> ampIds;
+    private String groupId;      // 주면 그룹 멤버 전체 (ampIds 와 합집합)
+    private String powerCommand; // "ON" or "OFF"
+}
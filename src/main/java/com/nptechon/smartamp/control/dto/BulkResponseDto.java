@@ -0,0 +1,16 @@
+package com.nptechon.smartamp.control.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BulkResponseDto {
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private long totalLatencyMs;  // 전체 fan-out 소요 시간 (≈ 가장 느린 앰프 RTT)
+    private List<BulkAmpResultDto> results;
+}
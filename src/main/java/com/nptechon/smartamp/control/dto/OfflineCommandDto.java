@@ -0,0 +1,17 @@
+package com.nptechon.smartamp.control.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OfflineCommandDto {
+    private String commandId;
+    private int ampId;
+    private String type;          // POWER / INDEX / KEYWORD
+    private String state;         // QUEUED / SENT / DONE / FAILED / EXPIRED / CANCELLED
+    private String result;        // ok / busy / offline / timeout / error (끝나기 전엔 null)
+    private String status;        // "ON" / "OFF" (POWER 이고 result=ok 일 때만)
+    private long enqueuedAtMs;
+    private long expiresAtMs;
+}
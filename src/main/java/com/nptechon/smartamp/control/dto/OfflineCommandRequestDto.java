@@ -0,0 +1,22 @@
+package com.nptechon.smartamp.control.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 오프라인 보관 명령 요청 (type 별로 안 쓰는 필드는 무시)
+ * - POWER: powerCommand
+ * - INDEX: index, repeat
+ * - KEYWORD: content, repeat
+ */
+@Getter
+@AllArgsConstructor
+public class OfflineCommandRequestDto {
+    private int ampId;
+    private String type;          // POWER / INDEX / KEYWORD
+    private String powerCommand;  // "ON" or "OFF"
+    private int index;
+    private String content;
+    private int repeat;
+    private long ttlMs;           // 0 이면 기본값
+}
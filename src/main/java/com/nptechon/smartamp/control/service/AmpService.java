@@ -1,21 +1,34 @@
 package com.nptechon.smartamp.control.service;
 
+import com.nptechon.smartamp.control.dto.BulkAmpResultDto;
+import com.nptechon.smartamp.control.dto.BulkResponseDto;
 import com.nptechon.smartamp.control.dto.ControlResponseDto;
 import com.nptechon.smartamp.control.dto.StatusResponseDto;
 import com.nptechon.smartamp.global.error.CustomException;
 import com.nptechon.smartamp.global.error.ErrorCode;
+import com.nptechon.smartamp.group.service.AmpGroupService;
 import com.nptechon.smartamp.tcp.protocol.payload.AmpPower;
 import com.nptechon.smartamp.tcp.server.sender.CommandSender;
+import com.nptechon.smartamp.tcp.util.CommandResultUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AmpService {
 
     private final CommandSender commandSender;
+    private final AmpGroupService ampGroupService;
+
+    private static final int MAX_BULK_AMPS = 500;
 
     public StatusResponseDto getStatus(int ampId) {
         try {
@@ -42,12 +55,7 @@ public class AmpService {
 
     public ControlResponseDto setPower(int ampId, String powerRaw) {
 
-        String power = normalize(powerRaw);
-        AmpPower command = switch (power) {
-            case "ON", "1" -> AmpPower.ON;
-            case "OFF", "0" -> AmpPower.OFF;
-            default -> throw new CustomException(ErrorCode.INVALID_REQUEST, "power 값은 ON 또는 OFF 여야 합니다.");
-        };
+        AmpPower command = toCommand(powerRaw);
 
         // 1) 연결 여부 확인 + 2) 명령 전송 (0x02 payload: 1/0)
         try {
@@ -66,7 +74,82 @@ public class AmpService {
     }
 
 
-    private String normalize(String powerRaw) {
+    /**
+     * 여러 앰프 상태 동시 조회 (0x06 을 한꺼번에 보내고 응답 모아서 반환)
+     * - groupId 를 주면 그룹 멤버 전체 (ampIds 와 함께 주면 합집합)
+     */
+    public BulkResponseDto getStatusBulk(List<Integer> ampIds, String groupId) {
+        List<Integer> ids = validateBulk(ampIds, groupId);
+        return fanOut(ids, commandSender::getStatusAsync, "[AMP][BULK][STATUS]");
+    }
+
+    /**
+     * 여러 앰프 전원 동시 제어 (0x02 fan-out)
+     * - groupId 를 주면 그룹 멤버 전체 (ampIds 와 함께 주면 합집합)
+     */
+    public BulkResponseDto setPowerBulk(List<Integer> ampIds, String groupId, String powerRaw) {
+        AmpPower command = toCommand(powerRaw);
+        List<Integer> ids = validateBulk(ampIds, groupId);
+        return fanOut(ids, ampId -> commandSender.sendPowerAsync(ampId, command), "[AMP][BULK][CONTROL]");
+    }
+
+    private BulkResponseDto fanOut(List<Integer> ids, Function<Integer, CompletableFuture<Boolean>> call, String tag) {
+        long t0 = System.nanoTime();
+
+        List<CompletableFuture<BulkAmpResultDto>> futures = new ArrayList<>(ids.size());
+        for (int ampId : ids) {
+            CompletableFuture<Boolean> f;
+            try {
+                f = call.apply(ampId);
+            } catch (RuntimeException e) {
+                f = CompletableFuture.failedFuture(e);
+            }
+            // 각 future 는 CommandSender 에서 orTimeout 이 걸려 있음
+            futures.add(f.handle((r, ex) -> {
+                long latencyMs = (System.nanoTime() - t0) / 1_000_000;
+                if (ex != null) {
+                    return new BulkAmpResultDto(ampId, CommandResultUtil.classify(ex), null, latencyMs);
+                }
+                return new BulkAmpResultDto(ampId, CommandResultUtil.OK, toOnOff(r), latencyMs);
+            }));
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).join();
+
+        List<BulkAmpResultDto> results = futures.stream().map(CompletableFuture::join).toList();
+        int ok = (int) results.stream().filter(r -> CommandResultUtil.OK.equals(r.getResult())).count();
+        long totalMs = (System.nanoTime() - t0) / 1_000_000;
+
+        log.info("{} requested={} ok={} failed={} totalMs={}", tag, ids.size(), ok, ids.size() - ok, totalMs);
+        return new BulkResponseDto(ids.size(), ok, ids.size() - ok, totalMs, results);
+    }
+
+    private List<Integer> validateBulk(List<Integer> ampIds, String groupId) {
+        LinkedHashSet<Integer> targets = new LinkedHashSet<>();
+        if (ampIds != null) targets.addAll(ampIds);
+        if (groupId != null && !groupId.isBlank()) {
+            // 없는 그룹이면 GROUP_NOT_FOUND
+            targets.addAll(ampGroupService.members(groupId.trim()));
+        }
+        if (targets.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "ampIds 또는 groupId가 필요합니다.");
+        }
+        List<Integer> ids = new ArrayList<>(targets);
+        if (ids.size() > MAX_BULK_AMPS) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "한 번에 제어할 수 있는 앰프는 최대 " + MAX_BULK_AMPS + "대입니다.");
+        }
+        return ids;
+    }
+
+    static AmpPower toCommand(String powerRaw) {
+        return switch (normalize(powerRaw)) {
+            case "ON", "1" -> AmpPower.ON;
+            case "OFF", "0" -> AmpPower.OFF;
+            default -> throw new CustomException(ErrorCode.INVALID_REQUEST, "power 값은 ON 또는 OFF 여야 합니다.");
+        };
+    }
+
+    private static String normalize(String powerRaw) {
         if (powerRaw == null) return "";
         return powerRaw.trim().toUpperCase();
     }
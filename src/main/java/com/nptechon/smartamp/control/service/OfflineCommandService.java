@@ -0,0 +1,186 @@
+package com.nptechon.smartamp.control.service;
+
+import com.nptechon.smartamp.broadcast.service.IndexBroadcastService;
+import com.nptechon.smartamp.broadcast.service.KeywordService;
+import com.nptechon.smartamp.control.dto.OfflineCommandDto;
+import com.nptechon.smartamp.control.dto.OfflineCommandRequestDto;
+import com.nptechon.smartamp.global.config.OfflineQueueProperties;
+import com.nptechon.smartamp.global.error.CustomException;
+import com.nptechon.smartamp.global.error.ErrorCode;
+import com.nptechon.smartamp.tcp.protocol.payload.AmpPower;
+import com.nptechon.smartamp.tcp.server.sender.CommandSender;
+import com.nptechon.smartamp.tcp.server.sender.OfflineCommandQueue;
+import com.nptechon.smartamp.tcp.server.sender.QueuedCommand;
+import com.nptechon.smartamp.tcp.util.CommandResultUtil;
+import com.nptechon.smartamp.tcp.util.RepeatValidatorUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 오프라인 앰프에 보낼 명령을 보관했다가 재등록(0x01) 시 전송
+ * - 호출자는 commandId 로 결과를 기다리거나(await) 전송 전 취소
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OfflineCommandService {
+
+    private final OfflineQueueProperties props;
+    private final OfflineCommandQueue offlineQueue;
+    private final CommandSender commandSender;
+    private final KeywordService keywordService;
+
+    private final Map<String, QueuedCommand> commands = new ConcurrentHashMap<>();
+
+    // 끝난 명령 (조회용, 오래된 것부터 제거)
+    private final Map<String, QueuedCommand> finished = new LinkedHashMap<>();
+
+    private ExecutorService workers;
+
+    @PostConstruct
+    void init() {
+        workers = Executors.newFixedThreadPool(Math.max(1, props.getWorkerThreads()), r -> {
+            Thread t = new Thread(r, "offline-command");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    public OfflineCommandDto enqueue(OfflineCommandRequestDto dto) {
+        int ampId = dto.getAmpId();
+        long ttlMs = ttlOf(dto.getTtlMs());
+        String type = (dto.getType() == null) ? "" : dto.getType().trim().toUpperCase();
+
+        QueuedCommand cmd = switch (type) {
+            case "POWER" -> {
+                AmpPower power = AmpService.toCommand(dto.getPowerCommand());
+                yield offlineQueue.enqueue(ampId, type, QueuedCommand.Lane.CONTROL, ttlMs,
+                        ch -> commandSender.sendPowerAsync(ampId, power));
+            }
+            case "INDEX" -> {
+                int index = dto.getIndex();
+                int repeat = dto.getRepeat();
+                IndexBroadcastService.validate(index, repeat);
+                yield offlineQueue.enqueue(ampId, type, QueuedCommand.Lane.BROADCAST, ttlMs,
+                        ch -> commandSender.sendIndexAsync(ch, ampId, index, repeat));
+            }
+            case "KEYWORD" -> {
+                String content = dto.getContent();
+                int repeat = dto.getRepeat();
+                if (content == null || content.isBlank()) {
+                    throw new CustomException(ErrorCode.INVALID_REQUEST, "content가 비어있습니다.");
+                }
+                if (!RepeatValidatorUtil.isValid(repeat)) {
+                    throw new CustomException(ErrorCode.INVALID_REQUEST, "repeat 값은 1~5 또는 255(무한) 이어야 합니다.");
+                }
+                // 합성 + 파일 전송은 blocking → 별도 스레드
+                yield offlineQueue.enqueue(ampId, type, QueuedCommand.Lane.BROADCAST, ttlMs,
+                        ch -> CompletableFuture.supplyAsync(() -> {
+                            keywordService.broadcastTts(ampId, content, repeat);
+                            return true;
+                        }, workers));
+            }
+            default -> throw new CustomException(ErrorCode.INVALID_REQUEST, "type 은 POWER / INDEX / KEYWORD 중 하나여야 합니다.");
+        };
+
+        commands.put(cmd.getCommandId(), cmd);
+        cmd.getResult().whenComplete((r, ex) -> retire(cmd));
+        return toDto(cmd);
+    }
+
+    /**
+     * 명령 조회. waitMs 가 있으면 끝날 때까지 최대 waitMs 대기
+     */
+    public OfflineCommandDto get(String commandId, long waitMs) {
+        QueuedCommand cmd = find(commandId);
+        if (waitMs > 0) {
+            try {
+                cmd.await(Math.min(waitMs, props.getMaxAwaitMs()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return toDto(cmd);
+    }
+
+    public OfflineCommandDto cancel(String commandId) {
+        QueuedCommand cmd = find(commandId);
+        if (!cmd.cancel() && cmd.getState() != QueuedCommand.State.CANCELLED) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "이미 전송된 명령은 취소할 수 없습니다.");
+        }
+        return toDto(cmd);
+    }
+
+    // 전송 전 명령 (순서대로)
+    public List<OfflineCommandDto> pending(int ampId) {
+        return offlineQueue.pending(ampId).stream().map(this::toDto).toList();
+    }
+
+    private QueuedCommand find(String commandId) {
+        QueuedCommand cmd = commands.get(commandId);
+        if (cmd == null) {
+            synchronized (finished) {
+                cmd = finished.get(commandId);
+            }
+        }
+        if (cmd == null) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "명령을 찾을 수 없습니다: " + commandId);
+        }
+        return cmd;
+    }
+
+    private void retire(QueuedCommand cmd) {
+        synchronized (finished) {
+            finished.put(cmd.getCommandId(), cmd);
+            if (finished.size() > props.getRetainFinished()) {
+                finished.remove(finished.keySet().iterator().next());
+            }
+        }
+        commands.remove(cmd.getCommandId());
+    }
+
+    private long ttlOf(long requested) {
+        if (requested <= 0) return props.getDefaultTtlMs();
+        return Math.min(requested, props.getMaxTtlMs());
+    }
+
+    private OfflineCommandDto toDto(QueuedCommand cmd) {
+        String result = null;
+        String status = null;
+
+        CompletableFuture<Boolean> f = cmd.getResult();
+        if (f.isDone()) {
+            try {
+                boolean r = f.join();
+                if ("POWER".equals(cmd.getType())) {
+                    result = CommandResultUtil.OK;
+                    status = r ? "ON" : "OFF";
+                } else {
+                    // 0x83 Busy → false
+                    result = r ? CommandResultUtil.OK : CommandResultUtil.BUSY;
+                }
+            } catch (RuntimeException e) {
+                result = f.isCancelled() ? null : CommandResultUtil.classify(e);
+            }
+        }
+
+        return new OfflineCommandDto(cmd.getCommandId(), cmd.getAmpId(), cmd.getType(), cmd.getState().name(),
+                result, status, cmd.getEnqueuedAtMs(), cmd.getExpiresAtMs());
+    }
+}
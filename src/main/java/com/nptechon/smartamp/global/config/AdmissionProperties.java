@@ -0,0 +1,33 @@
+package com.nptechon.smartamp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 접속/등록 폭주(정전 복구 후 일제 재접속) 제어 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "smartamp.tcp.admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+
+    // 접속 IP 별 token bucket (초당 보충, 최대 보관)
+    private double perIpRatePerSec = 2.0;
+    private int perIpBurst = 5;
+
+    // 서버 전체 token bucket
+    private double globalRatePerSec = 200.0;
+    private int globalBurst = 400;
+
+    // 접속했지만 아직 DEVICE_REGISTER(0x01) 를 보내지 않은 채널 상한
+    private int maxPendingRegistrations = 256;
+
+    // 이 시간 안에 등록하지 않으면 채널 close (pending 자리 반환)
+    private long registerTimeoutMs = 15_000;
+
+    // IP 별 bucket 보관 상한 (넘으면 오래 안 쓴 것부터 정리)
+    private int maxTrackedIps = 10_000;
+}
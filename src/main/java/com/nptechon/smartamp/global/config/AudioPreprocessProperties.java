@@ -0,0 +1,39 @@
+package com.nptechon.smartamp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 마이크 녹음(WAV) → MP3 변환 전 전처리 설정
+ * - 앞/뒤 무음 구간 제거 (JVM 내부 PCM 분석)
+ * - ffmpeg loudnorm 필터로 음량 정규화
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "smartamp.audio.preprocess")
+public class AudioPreprocessProperties {
+
+    // 전처리 단계 전체 on/off
+    private boolean enabled = true;
+
+    // 앞/뒤 무음 제거
+    private boolean trimSilence = true;
+
+    // 이 값(dBFS) 이하의 peak 는 무음으로 판단
+    private double silenceThresholdDb = -45.0;
+
+    // peak 계산 윈도우 크기
+    private int windowMs = 20;
+
+    // 잘라낸 경계 앞/뒤로 남겨둘 여유 구간 (말 첫 음절 잘림 방지)
+    private int paddingMs = 150;
+
+    // ffmpeg loudnorm 적용 여부
+    private boolean normalizeLoudness = true;
+
+    // loudnorm 목표값 (EBU R128)
+    private double targetLufs = -16.0;
+    private double truePeakDb = -1.5;
+    private double loudnessRange = 11.0;
+}
@@ -0,0 +1,21 @@
+package com.nptechon.smartamp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 방송 시작 파이프라인 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "smartamp.broadcast.pipeline")
+public class BroadcastPipelineProperties {
+
+    // true: 0x04 핸드셰이크와 합성/변환을 동시에 진행
+    // false: 합성/변환 → 0x04 → 전송 (기존 순차 방식)
+    private boolean enabled = true;
+
+    // 합성/변환 실행 스레드 수 (넘치는 요청은 대기)
+    private int workerThreads = 8;
+}
@@ -0,0 +1,46 @@
+package com.nptechon.smartamp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.DeprecatedConfigurationProperty;
+
+/**
+ * 앰프별 방송 대기열 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "smartamp.broadcast.queue")
+public class BroadcastQueueProperties {
+
+    // 앰프당 대기 가능한 방송 수
+    private int maxPerAmp = 20;
+
+    // Busy 응답 시 재시도 간격 (지수 증가, 상한)
+    private long initialBackoffMs = 1000;
+    private long maxBackoffMs = 15_000;
+
+    // 대기열에 들어온 뒤 이 시간이 지나도 시작 못 하면 실패 처리
+    private long maxWaitMs = 300_000;
+
+    // 예전 키, 값은 DeviceStateProperties 가 직접 읽는다
+    private Long defaultIndexDurationMs;
+
+    // 재생 종료 추정 시각에 더하는 여유
+    private long estimateMarginMs = 300;
+
+    // 대기열 방송 실행 스레드 수 (합성/전송 시작까지 blocking)
+    private int workerThreads = 4;
+
+    // 끝난 ticket 을 조회용으로 보관할 개수
+    private int retainFinished = 1000;
+
+    /**
+     * @deprecated smartamp.device-state.index-duration-ms 사용
+     */
+    @Deprecated
+    @DeprecatedConfigurationProperty(replacement = "smartamp.device-state.index-duration-ms")
+    public Long getDefaultIndexDurationMs() {
+        return defaultIndexDurationMs;
+    }
+}
@@ -0,0 +1,26 @@
+package com.nptechon.smartamp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 예약/반복 방송 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "smartamp.schedule")
+public class BroadcastScheduleProperties {
+
+    // false 면 저장만 하고 발송하지 않음
+    private boolean enabled = true;
+
+    // 예약 정의 저장 파일
+    private String file = "./broadcast-schedules.json";
+
+    // 발송 시각 몇 ms 전에 TTS 합성 / 대상 채널 확인을 미리 할지
+    private long prepareLeadMs = 30_000;
+
+    // 준비/발송 작업 스레드 수
+    private int threads = 2;
+}
@@ -0,0 +1,26 @@
+package com.nptechon.smartamp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 다중 앰프 동시 시작(RTT 정렬) 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "smartamp.broadcast.sync")
+public class BroadcastSyncProperties {
+
+    // 앰프 간 0x03 도착 시각 차이 목표 (넘으면 경고 로그)
+    private long targetSkewMs = 20;
+
+    // RTT 샘플이 아직 없는 앰프에 쓸 값
+    private long defaultRttMs = 100;
+
+    // RTT 가 유독 긴 앰프 하나 때문에 전체가 늦어지지 않도록 지연 상한
+    private long maxAlignDelayMs = 1000;
+
+    // 한 번에 정렬 방송할 수 있는 앰프 수
+    private int maxAmps = 500;
+}
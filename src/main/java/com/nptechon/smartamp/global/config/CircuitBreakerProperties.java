@@ -0,0 +1,25 @@
+package com.nptechon.smartamp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 앰프별 circuit breaker 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "smartamp.tcp.breaker")
+public class CircuitBreakerProperties {
+
+    private boolean enabled = true;
+
+    // 연속 timeout 이 이 횟수에 도달하면 OPEN
+    private int failureThreshold = 3;
+
+    // OPEN 유지 시간. 지나면 HALF_OPEN 으로 probe 1건 허용
+    private long openMs = 10_000;
+
+    // 연속 timeout 이 이 횟수에 도달하면 채널 close (재연결 유도)
+    private int closeChannelAfterFailures = 6;
+}
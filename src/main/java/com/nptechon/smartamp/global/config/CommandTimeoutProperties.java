@@ -0,0 +1,32 @@
+package com.nptechon.smartamp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 앰프 명령 응답 대기 시간
+ * - RTT 샘플이 충분하면: clamp(RTT p{percentile} * margin, floorMs, ceilingMs)
+ * - 샘플이 부족하면: opcode 별 기본값
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "smartamp.tcp.timeout")
+public class CommandTimeoutProperties {
+
+    private boolean adaptive = true;
+
+    private double percentile = 99.0;
+    private double margin = 3.0;
+    private int minSamples = 10;
+
+    private long floorMs = 500;
+    private long ceilingMs = 10_000;
+
+    // 기본값 (기존 하드코딩 값)
+    private long statusMs = 5_000;
+    private long controlMs = 3_000;
+    private long indexMs = 3_000;
+    private long streamMs = 3_000;
+    private long logMs = 6_000;
+}
@@ -0,0 +1,58 @@
+package com.nptechon.smartamp.global.config;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+/**
+ * 앰프별 방송 상태(IDLE / HANDSHAKING / TRANSFERRING / PLAYING) 설정
+ */
+@Slf4j
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "smartamp.device-state")
+public class DeviceStateProperties implements EnvironmentAware {
+
+    // 예전 키 (대기열 설정에 있던 인덱스 길이)
+    static final String LEGACY_INDEX_DURATION_KEY = "smartamp.broadcast.queue.default-index-duration-ms";
+    private static final long DEFAULT_INDEX_DURATION_MS = 10_000;
+
+    // false 면 상태만 기록하고 로컬 거절은 하지 않음 (항상 앰프에 물어봄)
+    private boolean enabled = true;
+
+    // 파일 방송(MP3 길이를 아는 경우) 재생 종료 시각 전이면 0x03/0x04 를 보내지 않고 바로 Busy
+    private boolean rejectWhilePlaying = true;
+
+    // 0x04 OK 후 전송이 시작되지 않으면 이 시간 뒤 IDLE 로 본다 (합성 실패 등 누락 대비)
+    private long handshakeHoldMs = 30_000;
+
+    // 앰프가 Busy 응답을 주면 이 시간 동안은 로컬에서 바로 Busy
+    private long busyHoldMs = 2_000;
+
+    // 인덱스 음원은 길이를 모르므로 1회 재생 길이로 가정할 값 (대기열 추정용, 로컬 거절에는 쓰지 않음)
+    // 설정 안 하면 예전 키, 그것도 없으면 10초
+    @Getter(AccessLevel.NONE)
+    private Long indexDurationMs;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Long legacyIndexDurationMs;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        legacyIndexDurationMs = environment.getProperty(LEGACY_INDEX_DURATION_KEY, Long.class);
+        if (legacyIndexDurationMs != null) {
+            log.warn("[CONFIG] {} is deprecated, use smartamp.device-state.index-duration-ms", LEGACY_INDEX_DURATION_KEY);
+        }
+    }
+
+    public long getIndexDurationMs() {
+        if (indexDurationMs != null) return indexDurationMs;
+        if (legacyIndexDurationMs != null) return legacyIndexDurationMs;
+        return DEFAULT_INDEX_DURATION_MS;
+    }
+}
@@ -4,8 +4,10 @@ import com.google.api.gax.core.FixedCredentialsProvider;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.cloud.texttospeech.v1.TextToSpeechClient;
 import com.google.cloud.texttospeech.v1.TextToSpeechSettings;
+import com.nptechon.smartamp.broadcast.tts.GoogleTtsClientHolder;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -14,13 +16,26 @@ import java.util.List;
 
 @Slf4j
 @Configuration
+@ConditionalOnProperty(prefix = "smartamp.tts", name = "engine", havingValue = "google", matchIfMissing = true)
 public class GoogleTtsConfig {
 
     @Value("${google.credentials:}")
     private String credentialsPath;
 
+    /**
+     * 클라이언트는 기동 스레드가 아니라 holder 가 별도 스레드에서 생성
+     * - smartamp.tts.client-init=background(기본) | lazy
+     */
     @Bean
-    public TextToSpeechClient textToSpeechClient() throws Exception {
+    public GoogleTtsClientHolder googleTtsClientHolder(TtsProperties ttsProperties) {
+        GoogleTtsClientHolder holder = new GoogleTtsClientHolder(this::createClient, ttsProperties.getClientWaitMs());
+        if (!"lazy".equalsIgnoreCase(ttsProperties.getClientInit())) {
+            holder.start();
+        }
+        return holder;
+    }
+
+    private TextToSpeechClient createClient() throws Exception {
         // 1) 기본은 ADC(환경변수/메타데이터)를 타게 두고 싶다면 credentialsPath 비우면 됨
         // 2) 지금처럼 application.yml에 path를 뒀으면 그걸로 강제 로드 가능
 
@@ -31,9 +46,12 @@ public class GoogleTtsConfig {
 
         log.info("Google TTS: Using credentials file path={}", credentialsPath);
 
-        GoogleCredentials credentials = GoogleCredentials
-                .fromStream(new FileInputStream(credentialsPath))
-                .createScoped(List.of("https://www.googleapis.com/auth/cloud-platform"));
+        GoogleCredentials credentials;
+        try (FileInputStream in = new FileInputStream(credentialsPath)) {
+            credentials = GoogleCredentials
+                    .fromStream(in)
+                    .createScoped(List.of("https://www.googleapis.com/auth/cloud-platform"));
+        }
 
         TextToSpeechSettings settings = TextToSpeechSettings.newBuilder()
                 .setCredentialsProvider(FixedCredentialsProvider.create(credentials))
@@ -0,0 +1,20 @@
+package com.nptechon.smartamp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 앰프 그룹(구역) 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "smartamp.group")
+public class GroupProperties {
+
+    // 그룹 정의 저장 파일 (재시작 후에도 유지)
+    private String file = "./amp-groups.json";
+
+    // 그룹당 최대 앰프 수
+    private int maxMembers = 500;
+}
@@ -0,0 +1,26 @@
+package com.nptechon.smartamp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 다중 앰프 로그 조회(/log/fleet) 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "smartamp.log.fleet")
+public class LogFleetProperties {
+
+    // 동시에 0x05 응답을 기다리는 앰프 수 상한
+    private int maxConcurrent = 16;
+
+    // 요청 1건에 넣을 수 있는 앰프 수
+    private int maxAmps = 500;
+
+    // SSE 연결 유지 시간
+    private long emitterTimeoutMs = 120_000;
+
+    // 응답 처리 / SSE 쓰기 스레드 수 (모든 조회 요청이 공유)
+    private int callbackThreads = 4;
+}
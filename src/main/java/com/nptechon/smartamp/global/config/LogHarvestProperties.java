@@ -0,0 +1,33 @@
+package com.nptechon.smartamp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 백그라운드 로그 수집 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "smartamp.log.harvest")
+public class LogHarvestProperties {
+
+    private boolean enabled = true;
+
+    // 수집 주기 (이전 수집 종료 기준)
+    private long intervalMs = 600_000;
+    private long initialDelayMs = 120_000;
+
+    // 수집 허용 시간대 (KST, [start, end) 시). start == end 면 항상
+    private int offPeakStartHour = 0;
+    private int offPeakEndHour = 6;
+
+    // 동시에 0x05 를 기다리는 앰프 수 상한
+    private int maxConcurrent = 8;
+
+    // 같은 event loop 에 붙은 앰프끼리 요청 간격
+    private long spacingMs = 200;
+
+    // 전송 종료 후 이 시간 동안은 재생 중으로 보고 건너뜀
+    private long broadcastGraceMs = 120_000;
+}
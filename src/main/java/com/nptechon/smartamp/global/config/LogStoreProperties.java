@@ -0,0 +1,26 @@
+package com.nptechon.smartamp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 서버측 앰프 로그 저장소 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "smartamp.log.store")
+public class LogStoreProperties {
+
+    // false 면 기존처럼 매 조회마다 0x05 요청
+    private boolean enabled = true;
+
+    // 앰프별 append-only 파일 위치 (<dir>/amp-<id>.log)
+    private String dir = "./log-store";
+
+    // 마지막 동기화 후 이 시간이 지나면 조회 시 0x05 로 한 번 갱신
+    private long staleMs = 60_000;
+
+    // 앰프당 보관 레코드 수 (넘으면 오래된 것부터 정리)
+    private int maxRecordsPerDevice = 20_000;
+}
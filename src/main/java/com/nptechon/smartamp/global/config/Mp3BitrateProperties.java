@@ -0,0 +1,26 @@
+package com.nptechon.smartamp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * 앰프 링크 속도에 따른 MP3 bitrate 선택 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "smartamp.audio.bitrate")
+public class Mp3BitrateProperties {
+
+    // 선택 가능한 bitrate 단계 (kbps)
+    private List<Integer> tiersKbps = List.of(32, 48, 64, 96);
+
+    // 링크 측정 샘플이 minSamples 개 미만일 때 사용 (느린 링크일 수 있으니 보수적으로)
+    private int defaultKbps = 32;
+    private int minSamples = 3;
+
+    // 전송 시간 * headroom <= 재생 시간 을 만족하는 가장 높은 tier 선택
+    private double headroom = 1.5;
+}
@@ -0,0 +1,32 @@
+package com.nptechon.smartamp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 오프라인 앰프 명령 보관 설정 (재등록 0x01 시 전송)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "smartamp.tcp.offline-queue")
+public class OfflineQueueProperties {
+
+    private boolean enabled = true;
+
+    // 앰프당 보관 가능한 명령 수
+    private int maxPerDevice = 16;
+
+    // 만료 시간 (요청에 없으면 기본값, 상한)
+    private long defaultTtlMs = 300_000;
+    private long maxTtlMs = 3_600_000;
+
+    // 조회 시 결과를 기다리는 최대 시간
+    private long maxAwaitMs = 30_000;
+
+    // 키워드(TTS) 명령 실행 스레드 수
+    private int workerThreads = 2;
+
+    // 끝난 명령을 조회용으로 보관할 개수
+    private int retainFinished = 1000;
+}
@@ -0,0 +1,20 @@
+package com.nptechon.smartamp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 기동 시간 계측 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "smartamp.startup")
+public class StartupProperties {
+
+    // JVM 시작 ~ TCP 리스너 오픈까지 허용 시간 (넘으면 WARN)
+    private long tcpBudgetMs = 5000;
+
+    // 기동 리포트에 찍을 느린 빈 개수
+    private int slowBeanTopN = 5;
+}
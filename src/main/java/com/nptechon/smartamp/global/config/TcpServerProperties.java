@@ -11,4 +11,15 @@ public class TcpServerProperties {
     private int port = 9000;
     private int bossThreads = 1;
     private int workerThreads = 0;
+
+    // auto / nio / epoll / io_uring (못 쓰면 nio 로 fallback)
+    private String transport = "auto";
+
+    // native transport 에서만: 같은 포트에 acceptor 여러 개 bind (커널이 연결 분산)
+    private boolean reusePort = false;
+    // reusePort 일 때 acceptor(boss event loop) 수, 0 이면 CPU 수
+    private int acceptors = 0;
+
+    // native transport 에서만: 보낸 데이터가 이 시간 동안 ACK 없으면 커널이 연결 끊음 (0 = 끔)
+    private int tcpUserTimeoutMs = 0;
 }
@@ -0,0 +1,73 @@
+package com.nptechon.smartamp.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 키워드 TTS 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "smartamp.tts")
+public class TtsProperties {
+
+    // google | local
+    private String engine = "google";
+
+    // google 클라이언트 생성 시점: background(기동과 병렬) | lazy(첫 요청 때)
+    private String clientInit = "background";
+
+    // 클라이언트가 아직 생성 중일 때 합성 요청이 기다리는 최대 시간
+    private long clientWaitMs = 10000;
+
+    private String languageCode = "ko-KR";
+
+    // 비우면 언어 기본 보이스 (예: "ko-KR-Neural2-A")
+    private String voiceName = "";
+
+    private Cache cache = new Cache();
+
+    private Local local = new Local();
+
+    private Chunk chunk = new Chunk();
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = true;
+
+        // in-heap LRU 최대 크기
+        private long memoryMaxBytes = 32L * 1024 * 1024;
+
+        // 디스크 캐시 (재시작 후에도 유지)
+        private String dir = "./tts-cache";
+        private long diskMaxBytes = 512L * 1024 * 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class Local {
+        // 합성 1건당 인위적 지연
+        private long latencyMs = 300;
+
+        // 지정하면 이 MP3 를 그대로 반환
+        private String cannedFile = "";
+
+        // cannedFile 이 없을 때 생성할 무음 MP3 길이 (글자당)
+        private long msPerChar = 120;
+    }
+
+    @Getter
+    @Setter
+    public static class Chunk {
+        // 긴 안내문을 문장 단위로 나눠 병렬 합성
+        private boolean enabled = true;
+
+        // 이 글자수를 넘으면 분할 (덩어리당 최대 글자수)
+        private int maxChars = 200;
+
+        // 동시에 진행할 합성 호출 수 (전체 요청 공용)
+        private int maxConcurrency = 4;
+    }
+}
@@ -28,6 +28,12 @@ public enum ErrorCode {
     TTS_FAILED(HttpStatus.BAD_GATEWAY, "TTS_FAILED", "TTS 변환에 실패했습니다."),
     TTS_BROADCAST_FAILED(HttpStatus.BAD_GATEWAY, "TTS_BROADCAST_FAILED", "TTS 방송에 실패했습니다."),
 
+    // Group
+    GROUP_NOT_FOUND(HttpStatus.NOT_FOUND, "GROUP_NOT_FOUND", "해당 앰프 그룹을 찾을 수 없습니다."),
+
+    // Schedule
+    SCHEDULE_NOT_FOUND(HttpStatus.NOT_FOUND, "SCHEDULE_NOT_FOUND", "해당 예약 방송을 찾을 수 없습니다."),
+
     // Protocol / Codec
     PROTOCOL_ENCODE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "PROTOCOL_ENCODE_ERROR", "프로토콜 패킷 생성(인코딩)에 실패했습니다."),
     PROTOCOL_DECODE_ERROR(HttpStatus.BAD_REQUEST, "PROTOCOL_DECODE_ERROR", "프로토콜 패킷 해석(디코딩)에 실패했습니다."),
@@ -0,0 +1,84 @@
+package com.nptechon.smartamp.group.controller;
+
+import com.nptechon.smartamp.global.ApiResponse;
+import com.nptechon.smartamp.group.dto.AmpGroupDto;
+import com.nptechon.smartamp.group.dto.AmpGroupSaveDto;
+import com.nptechon.smartamp.group.service.AmpGroupService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/group")
+public class AmpGroupController {
+
+    private final AmpGroupService ampGroupService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<AmpGroupDto>>> list(HttpServletRequest request) {
+        List<AmpGroupDto> result = ampGroupService.list();
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "앰프 그룹 목록 조회 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+
+    @GetMapping("/{groupId}")
+    public ResponseEntity<ApiResponse<AmpGroupDto>> get(@PathVariable String groupId, HttpServletRequest request) {
+        AmpGroupDto result = ampGroupService.get(groupId);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "앰프 그룹 조회 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+
+    @PutMapping("/{groupId}")
+    public ResponseEntity<ApiResponse<AmpGroupDto>> save(@PathVariable String groupId, @RequestBody AmpGroupSaveDto dto, HttpServletRequest request) {
+        log.info("amp group save.. groupId: {}, ampIds: {}", groupId, dto.getAmpIds());
+
+        AmpGroupDto result = ampGroupService.save(groupId, dto);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "앰프 그룹 저장 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+
+    @DeleteMapping("/{groupId}")
+    public ResponseEntity<ApiResponse<Void>> delete(@PathVariable String groupId, HttpServletRequest request) {
+        ampGroupService.delete(groupId);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "앰프 그룹 삭제 성공",
+                        null,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+}
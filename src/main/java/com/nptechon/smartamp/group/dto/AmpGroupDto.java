@@ -0,0 +1,15 @@
+package com.nptechon.smartamp.group.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class AmpGroupDto {
+    private String groupId;
+    private String name;
+    private List<Integer> ampIds;
+    private int connected;   // 현재 접속 중인 멤버 수
+}
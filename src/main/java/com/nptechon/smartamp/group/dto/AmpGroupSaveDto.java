@@ -0,0 +1,17 @@
+package com.nptechon.smartamp.group.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 그룹 생성/수정 요청 + 파일 저장 형식
+ */
+@Getter
+@AllArgsConstructor
+public class AmpGroupSaveDto {
+    private String groupId;
+    private String name;
+    private List<Integer> ampIds;
+}
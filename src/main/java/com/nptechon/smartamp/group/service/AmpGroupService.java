@@ -0,0 +1,169 @@
+package com.nptechon.smartamp.group.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nptechon.smartamp.global.config.GroupProperties;
+import com.nptechon.smartamp.global.error.CustomException;
+import com.nptechon.smartamp.global.error.ErrorCode;
+import com.nptechon.smartamp.group.dto.AmpGroupDto;
+import com.nptechon.smartamp.group.dto.AmpGroupSaveDto;
+import com.nptechon.smartamp.tcp.server.session.AmpChannelGroups;
+import io.netty.channel.Channel;
+import io.netty.channel.group.ChannelGroup;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 앰프 그룹(구역) 관리
+ * - 정의는 로컬 JSON 파일에 저장, 기동 시 다시 읽음
+ * - 멤버 채널 셋은 AmpChannelGroups 가 bind/unbind 를 따라 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AmpGroupService {
+
+    private final GroupProperties props;
+    private final AmpChannelGroups channelGroups;
+    private final ObjectMapper objectMapper;
+
+    // groupId -> 정의 (파일 저장 순서 고정용 TreeMap, 접근은 synchronized)
+    private final Map<String, AmpGroupSaveDto> groups = new TreeMap<>();
+
+    @PostConstruct
+    void load() {
+        Path file = Paths.get(props.getFile());
+        if (!Files.exists(file)) return;
+
+        try {
+            List<AmpGroupSaveDto> saved = objectMapper.readValue(file.toFile(), new TypeReference<>() {});
+            synchronized (this) {
+                for (AmpGroupSaveDto g : saved) {
+                    groups.put(g.getGroupId(), g);
+                    channelGroups.define(g.getGroupId(), g.getAmpIds());
+                }
+            }
+            log.info("[GROUP] loaded groups={} file={}", saved.size(), file.toAbsolutePath());
+        } catch (IOException e) {
+            // 파일이 깨졌으면 비어있는 상태로 시작 (덮어쓰기 전까지 원본은 유지)
+            log.warn("[GROUP] load failed file={} cause={}", file, e.toString());
+        }
+    }
+
+    public synchronized List<AmpGroupDto> list() {
+        return groups.values().stream().map(this::toDto).toList();
+    }
+
+    public synchronized AmpGroupDto get(String groupId) {
+        return toDto(find(groupId));
+    }
+
+    /**
+     * 그룹 생성 또는 교체 (멤버 전체 교체)
+     */
+    public synchronized AmpGroupDto save(String groupId, AmpGroupSaveDto dto) {
+        if (groupId == null || groupId.isBlank()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "groupId가 비어있습니다.");
+        }
+        if (dto == null || dto.getAmpIds() == null || dto.getAmpIds().isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "ampIds가 비어있습니다.");
+        }
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(dto.getAmpIds()));
+        if (ids.size() > props.getMaxMembers()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "그룹당 앰프는 최대 " + props.getMaxMembers() + "대입니다.");
+        }
+
+        AmpGroupSaveDto g = new AmpGroupSaveDto(groupId, dto.getName(), ids);
+
+        // 파일 저장이 성공한 뒤에만 메모리/채널 그룹 반영
+        Map<String, AmpGroupSaveDto> next = new TreeMap<>(groups);
+        next.put(groupId, g);
+        persist(next);
+
+        groups.put(groupId, g);
+        channelGroups.define(groupId, ids);
+
+        log.info("[GROUP] saved groupId={} members={}", groupId, ids.size());
+        return toDto(g);
+    }
+
+    public synchronized void delete(String groupId) {
+        find(groupId);
+
+        Map<String, AmpGroupSaveDto> next = new TreeMap<>(groups);
+        next.remove(groupId);
+        persist(next);
+
+        groups.remove(groupId);
+        channelGroups.remove(groupId);
+
+        log.info("[GROUP] deleted groupId={}", groupId);
+    }
+
+    // 그룹 멤버 ampId (정의 기준, 접속 여부 무관)
+    public Set<Integer> members(String groupId) {
+        synchronized (this) {
+            find(groupId);
+        }
+        return channelGroups.members(groupId);
+    }
+
+    // 현재 접속 중인 멤버 채널
+    public ChannelGroup channels(String groupId) {
+        ChannelGroup cg = channelGroups.channels(groupId);
+        if (cg == null) {
+            throw new CustomException(ErrorCode.GROUP_NOT_FOUND, "groupId=" + groupId);
+        }
+        return cg;
+    }
+
+    // 현재 접속 중인 멤버 ampId -> 채널
+    public Map<Integer, Channel> connected(String groupId) {
+        channels(groupId);
+        return channelGroups.connected(groupId);
+    }
+
+    private AmpGroupSaveDto find(String groupId) {
+        AmpGroupSaveDto g = groups.get(groupId);
+        if (g == null) {
+            throw new CustomException(ErrorCode.GROUP_NOT_FOUND, "groupId=" + groupId);
+        }
+        return g;
+    }
+
+    private AmpGroupDto toDto(AmpGroupSaveDto g) {
+        ChannelGroup cg = channelGroups.channels(g.getGroupId());
+        int connected = (cg == null) ? 0 : cg.size();
+        return new AmpGroupDto(g.getGroupId(), g.getName(), g.getAmpIds(), connected);
+    }
+
+    // tmp 파일에 쓰고 atomic move (중간에 죽어도 기존 파일 유지)
+    private void persist(Map<String, AmpGroupSaveDto> defs) {
+        Path file = Paths.get(props.getFile());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(tmp.toFile(), new ArrayList<>(defs.values()));
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("[GROUP] persist failed file={}", file, e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "그룹 저장에 실패했습니다.");
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.nptechon.smartamp.healthCheck;
 
+import com.nptechon.smartamp.broadcast.tts.TtsEngine;
+import com.nptechon.smartamp.healthCheck.dto.ReadinessDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -7,10 +11,32 @@ import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/health")
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final StartupReport startupReport;
+    private final TtsEngine ttsEngine;
+
     @GetMapping
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("OK");
     }
+
+    /**
+     * 배포 직후 트래픽 전환 판단용
+     * - TCP 리스너 + 컨텍스트 기동 완료면 200, 아니면 503
+     */
+    @GetMapping("/ready")
+    public ResponseEntity<ReadinessDto> ready() {
+        boolean ready = startupReport.isTcpListening() && startupReport.isApplicationReady();
+
+        ReadinessDto dto = new ReadinessDto(
+                ready,
+                startupReport.isTcpListening(),
+                ttsEngine.isReady(),
+                startupReport.getTcpListeningMs(),
+                startupReport.getApplicationReadyMs()
+        );
+        return ResponseEntity.status(ready ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(dto);
+    }
 }
@@ -0,0 +1,92 @@
+package com.nptechon.smartamp.healthCheck;
+
+import com.nptechon.smartamp.global.config.StartupProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+
+/**
+ * 기동 구간별 소요 시간 기록
+ * - JVM 시작 → TCP 리스너 오픈 → 컨텍스트 기동 완료
+ * - 느린 빈 생성 Top N (BufferingApplicationStartup 사용 시)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupReport {
+
+    private final StartupProperties startupProperties;
+
+    private final long jvmStartMs = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+    private volatile long tcpListeningMs = -1;
+    private volatile long applicationReadyMs = -1;
+
+    public void markTcpListening() {
+        tcpListeningMs = sinceJvmStart();
+
+        long budget = startupProperties.getTcpBudgetMs();
+        if (tcpListeningMs > budget) {
+            log.warn("[STARTUP] TCP listener opened after {}ms (budget={}ms)", tcpListeningMs, budget);
+        } else {
+            log.info("[STARTUP] TCP listener opened after {}ms (budget={}ms)", tcpListeningMs, budget);
+        }
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        applicationReadyMs = sinceJvmStart();
+        log.info("[STARTUP] jvm->tcpListening={}ms jvm->ready={}ms",
+                tcpListeningMs, applicationReadyMs);
+
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (startup instanceof BufferingApplicationStartup buffering) {
+            logSlowBeans(buffering.getBufferedTimeline());
+        }
+    }
+
+    private void logSlowBeans(StartupTimeline timeline) {
+        timeline.getEvents().stream()
+                .filter(e -> "spring.beans.instantiate".equals(e.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(startupProperties.getSlowBeanTopN())
+                .forEach(e -> log.info("[STARTUP][BEAN] {} {}ms",
+                        beanName(e.getStartupStep()), e.getDuration().toMillis()));
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) return tag.getValue();
+        }
+        return "?";
+    }
+
+    private long sinceJvmStart() {
+        return System.currentTimeMillis() - jvmStartMs;
+    }
+
+    public boolean isTcpListening() {
+        return tcpListeningMs >= 0;
+    }
+
+    public boolean isApplicationReady() {
+        return applicationReadyMs >= 0;
+    }
+
+    public long getTcpListeningMs() {
+        return tcpListeningMs;
+    }
+
+    public long getApplicationReadyMs() {
+        return applicationReadyMs;
+    }
+}
@@ -0,0 +1,14 @@
+package com.nptechon.smartamp.healthCheck.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ReadinessDto {
+    private boolean ready;            // TCP 리스너 오픈 + 컨텍스트 기동 완료
+    private boolean tcpListening;
+    private boolean ttsReady;         // 아니어도 앰프 접속/제어는 가능 (TTS 방송만 대기)
+    private long tcpListeningMs;      // JVM 시작 기준, 미완료면 -1
+    private long applicationReadyMs;  // JVM 시작 기준, 미완료면 -1
+}
@@ -0,0 +1,67 @@
+package com.nptechon.smartamp.link.controller;
+
+import com.nptechon.smartamp.global.ApiResponse;
+import com.nptechon.smartamp.link.dto.AdmissionStatsDto;
+import com.nptechon.smartamp.link.dto.LinkStatsDto;
+import com.nptechon.smartamp.link.service.LinkStatsService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/link")
+public class LinkController {
+
+    private final LinkStatsService linkStatsService;
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<LinkStatsDto>> getStats(@RequestParam int ampId, HttpServletRequest request) {
+        LinkStatsDto result = linkStatsService.getStats(ampId);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "앰프 링크 품질 조회 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+
+    @GetMapping("/stats/all")
+    public ResponseEntity<ApiResponse<List<LinkStatsDto>>> getAllStats(HttpServletRequest request) {
+        List<LinkStatsDto> result = linkStatsService.getAllStats();
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "전체 앰프 링크 품질 조회 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+
+    @GetMapping("/admission")
+    public ResponseEntity<ApiResponse<AdmissionStatsDto>> getAdmissionStats(HttpServletRequest request) {
+        AdmissionStatsDto result = linkStatsService.getAdmissionStats();
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "접속/등록 admission 통계 조회 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+}
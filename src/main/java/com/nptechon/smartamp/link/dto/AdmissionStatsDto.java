@@ -0,0 +1,26 @@
+package com.nptechon.smartamp.link.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AdmissionStatsDto {
+    // 누적
+    private long accepted;
+    private long rejectedPerIp;
+    private long rejectedGlobal;
+    private long rejectedPending;
+    private long registered;
+    private long replaced;          // 같은 deviceId 재등록으로 닫은 기존 채널
+    private long registerTimeouts;
+
+    // 최근 1초 / 최대 (per sec)
+    private long acceptPerSec;
+    private long registerPerSec;
+    private long peakAcceptPerSec;
+    private long peakRegisterPerSec;
+
+    private int pendingRegistrations;
+    private int trackedIps;
+}
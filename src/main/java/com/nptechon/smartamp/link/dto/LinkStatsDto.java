@@ -0,0 +1,38 @@
+package com.nptechon.smartamp.link.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class LinkStatsDto {
+    private int ampId;
+
+    // 파일 전송 throughput (bytes/sec)
+    private long throughputEwma;
+    private long throughputP10;
+    private long throughputP50;
+    private long transfers;
+
+    // 명령 왕복 시간 (ms)
+    private double rttEwmaMs;
+    private double rttP50Ms;
+    private double rttP90Ms;
+    private double rttP99Ms;
+    private long rttSamples;
+    private long timeouts;
+
+    private Map<String, OpcodeRtt> rttByOpcode;
+
+    private long updatedAt; // epoch ms
+
+    @Getter
+    @AllArgsConstructor
+    public static class OpcodeRtt {
+        private int samples;
+        private double p50Ms;
+        private double p99Ms;
+    }
+}
@@ -0,0 +1,36 @@
+package com.nptechon.smartamp.link.service;
+
+import com.nptechon.smartamp.global.error.CustomException;
+import com.nptechon.smartamp.global.error.ErrorCode;
+import com.nptechon.smartamp.link.dto.AdmissionStatsDto;
+import com.nptechon.smartamp.link.dto.LinkStatsDto;
+import com.nptechon.smartamp.tcp.server.link.AdmissionControl;
+import com.nptechon.smartamp.tcp.server.link.LinkEstimator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class LinkStatsService {
+
+    private final LinkEstimator linkEstimator;
+    private final AdmissionControl admissionControl;
+
+    public LinkStatsDto getStats(int ampId) {
+        LinkStatsDto dto = linkEstimator.snapshot(ampId);
+        if (dto == null) {
+            throw new CustomException(ErrorCode.AMP_NOT_FOUND, "해당 앰프의 링크 측정 기록이 없습니다.");
+        }
+        return dto;
+    }
+
+    public List<LinkStatsDto> getAllStats() {
+        return linkEstimator.snapshotAll();
+    }
+
+    public AdmissionStatsDto getAdmissionStats() {
+        return admissionControl.snapshot();
+    }
+}
@@ -1,13 +1,18 @@
 package com.nptechon.smartamp.log.controller;
 
 import com.nptechon.smartamp.global.ApiResponse;
+import com.nptechon.smartamp.log.dto.LogHarvestStatusDto;
 import com.nptechon.smartamp.log.dto.LogResponseDto;
+import com.nptechon.smartamp.log.harvest.LogHarvester;
+import com.nptechon.smartamp.log.service.LogFleetService;
 import com.nptechon.smartamp.log.service.LogService;
 import com.nptechon.smartamp.tcp.protocol.LogInfoDto;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -18,6 +23,8 @@ import java.util.List;
 public class LogController {
 
     private final LogService logService;
+    private final LogHarvester logHarvester;
+    private final LogFleetService logFleetService;
 
     @GetMapping("/recent")
     public ApiResponse<LogResponseDto> getRecentLogs(
@@ -39,4 +46,56 @@ public class LogController {
                 requestURI
         );
     }
+
+    /**
+     * 백그라운드 수집 결과만 조회 (앰프 왕복 없음, 대시보드용)
+     */
+    @GetMapping("/stored")
+    public ApiResponse<LogResponseDto> getStoredLogs(
+            @RequestParam int ampId,
+            @RequestParam(defaultValue = "7") int days,
+            HttpServletRequest request
+    ) {
+        String requestId = (String) request.getAttribute("requestId");
+        String requestURI = request.getRequestURI();
+
+        List<LogInfoDto> logs = logService.getStoredLogs(ampId, days);
+        LogResponseDto result = new LogResponseDto(ampId, days, logs.size(), logs);
+
+        return ApiResponse.ok(
+                "ok",
+                "저장된 최근 " + days + "일 로그 조회 성공",
+                result,
+                requestId,
+                requestURI
+        );
+    }
+
+    /**
+     * 여러 앰프 로그 동시 조회 (SSE)
+     * - event "amp" : 앰프별 결과 (응답 도착 순)
+     * - event "done": 전체 시간 역순 병합 결과
+     */
+    @GetMapping(value = "/fleet", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getFleetLogs(
+            @RequestParam(required = false) List<Integer> ampIds,
+            @RequestParam(required = false) String groupId,
+            @RequestParam(defaultValue = "7") int days
+    ) {
+        return logFleetService.streamFleetLogs(ampIds, groupId, days);
+    }
+
+    @GetMapping("/harvest/status")
+    public ApiResponse<LogHarvestStatusDto> getHarvestStatus(HttpServletRequest request) {
+        String requestId = (String) request.getAttribute("requestId");
+        String requestURI = request.getRequestURI();
+
+        return ApiResponse.ok(
+                "ok",
+                "로그 수집 상태 조회 성공",
+                logHarvester.getLastRun(),
+                requestId,
+                requestURI
+        );
+    }
 }
@@ -0,0 +1,21 @@
+package com.nptechon.smartamp.log.dto;
+
+import com.nptechon.smartamp.tcp.protocol.LogInfoDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * /log/fleet 의 앰프별 부분 결과 (SSE "amp" 이벤트)
+ */
+@Getter
+@AllArgsConstructor
+public class FleetLogAmpDto {
+    private int ampId;
+    private String status;   // ok | stored | offline | timeout | error
+    private String message;
+    private long tookMs;
+    private int total;
+    private List<LogInfoDto> logs;
+}
@@ -0,0 +1,12 @@
+package com.nptechon.smartamp.log.dto;
+
+import com.nptechon.smartamp.tcp.protocol.LogInfoDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FleetLogEntryDto {
+    private int ampId;
+    private LogInfoDto log;
+}
@@ -0,0 +1,22 @@
+package com.nptechon.smartamp.log.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * /log/fleet 최종 결과 (SSE "done" 이벤트)
+ * - entries: 전체 앰프 로그를 시간 역순으로 병합
+ */
+@Getter
+@AllArgsConstructor
+public class FleetLogSummaryDto {
+    private int days;
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private long tookMs;
+    private int total;
+    private List<FleetLogEntryDto> entries;
+}
@@ -0,0 +1,17 @@
+package com.nptechon.smartamp.log.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LogHarvestStatusDto {
+    private long startedAtMs;
+    private long tookMs;
+    private int targets;       // 수집 시점 접속 앰프 수
+    private int harvested;
+    private int skippedBusy;   // 방송 중
+    private int skippedFresh;  // 최근 동기화됨
+    private int failed;
+    private int addedRecords;
+}
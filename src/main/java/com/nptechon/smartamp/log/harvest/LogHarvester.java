@@ -0,0 +1,247 @@
+package com.nptechon.smartamp.log.harvest;
+
+import com.nptechon.smartamp.global.config.LogHarvestProperties;
+import com.nptechon.smartamp.global.config.LogStoreProperties;
+import com.nptechon.smartamp.log.dto.LogHarvestStatusDto;
+import com.nptechon.smartamp.log.store.DeviceLogStore;
+import com.nptechon.smartamp.tcp.protocol.AmpOpcode;
+import com.nptechon.smartamp.tcp.server.link.CommandTimeoutPolicy;
+import com.nptechon.smartamp.tcp.server.sender.CommandSender;
+import com.nptechon.smartamp.tcp.server.sender.FileSender;
+import com.nptechon.smartamp.tcp.server.session.TcpSessionManager;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 접속 중인 앰프 로그를 한가한 시간대에 미리 수집해 DeviceLogStore 에 적재
+ * - 동시 요청 수 상한 (maxConcurrent)
+ * - 같은 event loop 의 앰프끼리는 한 번에 하나, spacingMs 간격
+ * - 방송 중(0x03/0x04 대기, 파일 전송 중, 전송 직후)인 앰프는 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogHarvester implements SchedulingConfigurer {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final LogHarvestProperties props;
+    private final LogStoreProperties storeProperties;
+    private final TcpSessionManager sessionManager;
+    private final CommandSender commandSender;
+    private final FileSender fileSender;
+    private final DeviceLogStore logStore;
+    private final CommandTimeoutPolicy timeoutPolicy;
+
+    private ExecutorService workers;
+
+    private volatile LogHarvestStatusDto lastRun;
+
+    // 한 번의 수집은 maxConcurrent 개 worker 로 돈다
+    @PostConstruct
+    void init() {
+        workers = Executors.newFixedThreadPool(Math.max(1, props.getMaxConcurrent()), r -> {
+            Thread t = new Thread(r, "log-harvest");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    // 주기는 LogHarvestProperties (intervalMs / initialDelayMs) 에서 읽는다
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(new FixedDelayTask(this::scheduledHarvest,
+                Duration.ofMillis(props.getIntervalMs()), Duration.ofMillis(props.getInitialDelayMs())));
+    }
+
+    public void scheduledHarvest() {
+        if (!props.isEnabled() || !storeProperties.isEnabled()) return;
+        if (!inOffPeakWindow(LocalTime.now(KST))) {
+            log.debug("[LOG][HARVEST] outside off-peak window -> skip");
+            return;
+        }
+        harvestAll();
+    }
+
+    public LogHarvestStatusDto harvestAll() {
+        long startedAt = System.currentTimeMillis();
+
+        HarvestRun run = new HarvestRun(props.getSpacingMs());
+        AtomicInteger skippedBusy = new AtomicInteger();
+        AtomicInteger skippedFresh = new AtomicInteger();
+
+        Set<Integer> ids = sessionManager.connectedIds();
+        for (int ampId : ids) {
+            Channel ch = sessionManager.get(ampId);
+            if (ch == null || !ch.isActive()) continue;
+            if (!logStore.isStale(ampId)) {
+                skippedFresh.incrementAndGet();
+                continue;
+            }
+            run.add(ch.eventLoop(), ampId);
+        }
+
+        AtomicInteger harvested = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger added = new AtomicInteger();
+
+        int n = Math.max(1, Math.min(props.getMaxConcurrent(), run.size()));
+        List<Future<?>> futures = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            futures.add(workers.submit(() -> {
+                HarvestRun.Pick pick;
+                while ((pick = run.next()) != null) {
+                    if (pick == HarvestRun.WAIT) {
+                        sleep(20);
+                        continue;
+                    }
+                    try {
+                        harvestOne(pick.ampId(), harvested, skippedBusy, failed, added);
+                    } finally {
+                        run.done(pick.loop());
+                    }
+                }
+            }));
+        }
+
+        for (Future<?> f : futures) {
+            try {
+                f.get();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                log.warn("[LOG][HARVEST] worker failed cause={}", e.getCause().toString());
+            }
+        }
+
+        LogHarvestStatusDto status = new LogHarvestStatusDto(
+                startedAt, System.currentTimeMillis() - startedAt, ids.size(),
+                harvested.get(), skippedBusy.get(), skippedFresh.get(), failed.get(), added.get());
+        lastRun = status;
+
+        log.info("[LOG][HARVEST] done targets={} harvested={} skippedBusy={} skippedFresh={} failed={} added={} tookMs={}",
+                status.getTargets(), status.getHarvested(), status.getSkippedBusy(), status.getSkippedFresh(),
+                status.getFailed(), status.getAddedRecords(), status.getTookMs());
+        return status;
+    }
+
+    private void harvestOne(int ampId, AtomicInteger harvested, AtomicInteger skippedBusy,
+                            AtomicInteger failed, AtomicInteger added) {
+        // 큐에 들어간 뒤 방송이 시작됐을 수 있으니 보내기 직전에 다시 확인
+        if (commandSender.isBroadcastPending(ampId) || fileSender.isBusy(ampId, props.getBroadcastGraceMs())) {
+            skippedBusy.incrementAndGet();
+            log.debug("[LOG][HARVEST] busy -> skip ampId={}", ampId);
+            return;
+        }
+
+        try {
+            long timeoutMs = timeoutPolicy.timeoutMs(ampId, AmpOpcode.LOG_REQUEST);
+            byte[] payload = commandSender.harvestLogsAsync(ampId).get(timeoutMs, TimeUnit.MILLISECONDS);
+            added.addAndGet(logStore.append(ampId, payload));
+            harvested.incrementAndGet();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            failed.incrementAndGet();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.warn("[LOG][HARVEST] failed ampId={} cause={}", ampId, e.toString());
+        }
+    }
+
+    boolean inOffPeakWindow(LocalTime now) {
+        int start = props.getOffPeakStartHour();
+        int end = props.getOffPeakEndHour();
+        if (start == end) return true;
+
+        int h = now.getHour();
+        return (start < end) ? (h >= start && h < end) : (h >= start || h < end);
+    }
+
+    public LogHarvestStatusDto getLastRun() {
+        return lastRun;
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * event loop 별 대기열
+     * - loop 당 동시에 1건, 직전 요청 종료 후 spacingMs 지나야 다음 요청
+     */
+    private static final class HarvestRun {
+
+        static final Pick WAIT = new Pick(null, -1);
+
+        private final long spacingMs;
+        private final LinkedHashMap<EventLoop, Deque<Integer>> lanes = new LinkedHashMap<>();
+        private final Set<EventLoop> busy = new HashSet<>();
+        private final Map<EventLoop, Long> nextAllowedMs = new HashMap<>();
+        private int size;
+
+        HarvestRun(long spacingMs) {
+            this.spacingMs = spacingMs;
+        }
+
+        synchronized void add(EventLoop loop, int ampId) {
+            lanes.computeIfAbsent(loop, k -> new ArrayDeque<>()).add(ampId);
+            size++;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        // null = 전부 끝남, WAIT = 남았지만 지금 보낼 수 있는 loop 없음
+        synchronized Pick next() {
+            if (lanes.isEmpty()) return null;
+
+            long now = System.currentTimeMillis();
+            Iterator<Map.Entry<EventLoop, Deque<Integer>>> it = lanes.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<EventLoop, Deque<Integer>> e = it.next();
+                EventLoop loop = e.getKey();
+                if (busy.contains(loop) || nextAllowedMs.getOrDefault(loop, 0L) > now) continue;
+
+                int ampId = e.getValue().poll();
+                if (e.getValue().isEmpty()) it.remove();
+
+                busy.add(loop);
+                return new Pick(loop, ampId);
+            }
+            return WAIT;
+        }
+
+        synchronized void done(EventLoop loop) {
+            busy.remove(loop);
+            nextAllowedMs.put(loop, System.currentTimeMillis() + spacingMs);
+        }
+
+        record Pick(EventLoop loop, int ampId) {}
+    }
+}
@@ -0,0 +1,217 @@
+package com.nptechon.smartamp.log.service;
+
+import com.nptechon.smartamp.global.config.LogFleetProperties;
+import com.nptechon.smartamp.global.config.LogStoreProperties;
+import com.nptechon.smartamp.global.error.CustomException;
+import com.nptechon.smartamp.global.error.ErrorCode;
+import com.nptechon.smartamp.group.service.AmpGroupService;
+import com.nptechon.smartamp.log.dto.FleetLogAmpDto;
+import com.nptechon.smartamp.log.dto.FleetLogEntryDto;
+import com.nptechon.smartamp.log.dto.FleetLogSummaryDto;
+import com.nptechon.smartamp.log.store.DeviceLogStore;
+import com.nptechon.smartamp.tcp.protocol.LogInfoDto;
+import com.nptechon.smartamp.tcp.protocol.payload.LogColumns;
+import com.nptechon.smartamp.tcp.protocol.payload.LogPayloadParser;
+import com.nptechon.smartamp.tcp.server.sender.CommandSender;
+import com.nptechon.smartamp.tcp.util.CommandResultUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 앰프 로그 동시 조회
+ * - maxConcurrent 개까지만 동시에 0x05 대기, 하나 끝날 때마다 다음 앰프 요청
+ * - 앰프별 결과는 도착하는 대로 SSE "amp" 이벤트로 전송 (느린 앰프가 나머지를 막지 않음)
+ * - 전부 끝나면 시간 역순 병합 결과를 "done" 이벤트로 전송
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LogFleetService {
+
+    private final CommandSender commandSender;
+    private final DeviceLogStore logStore;
+    private final LogStoreProperties logStoreProperties;
+    private final LogFleetProperties props;
+    private final AmpGroupService ampGroupService;
+
+    // 응답 처리 / SSE 쓰기는 Netty event loop 가 아닌 여기서
+    private ExecutorService callbackExecutor;
+
+    @PostConstruct
+    void init() {
+        callbackExecutor = Executors.newFixedThreadPool(Math.max(1, props.getCallbackThreads()), r -> {
+            Thread t = new Thread(r, "log-fleet");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        callbackExecutor.shutdownNow();
+    }
+
+    /**
+     * @param groupId 주면 그룹 멤버 전체 (ampIds 와 함께 주면 합집합)
+     */
+    public SseEmitter streamFleetLogs(Collection<Integer> ampIds, String groupId, int days) {
+        LogService.validateDays(days);
+
+        LinkedHashSet<Integer> targets = new LinkedHashSet<>();
+        if (ampIds != null) targets.addAll(ampIds);
+        if (groupId != null && !groupId.isBlank()) {
+            targets.addAll(ampGroupService.members(groupId.trim()));
+        }
+        List<Integer> ids = new ArrayList<>(targets);
+        if (ids.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "ampIds 또는 groupId가 필요합니다.");
+        }
+        if (ids.size() > props.getMaxAmps()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "한 번에 조회할 수 있는 앰프는 최대 " + props.getMaxAmps() + "대입니다.");
+        }
+
+        SseEmitter emitter = new SseEmitter(props.getEmitterTimeoutMs());
+        new FleetRun(ids, days, emitter).start();
+        return emitter;
+    }
+
+    private final class FleetRun {
+
+        private final Deque<Integer> queue;
+        private final int requested;
+        private final int days;
+        private final SseEmitter emitter;
+        private final long startedAt = System.currentTimeMillis();
+
+        private final AtomicInteger remaining;
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final List<FleetLogEntryDto> merged = Collections.synchronizedList(new ArrayList<>());
+
+        private volatile boolean closed;
+
+        FleetRun(List<Integer> ids, int days, SseEmitter emitter) {
+            this.queue = new ArrayDeque<>(ids);
+            this.requested = ids.size();
+            this.remaining = new AtomicInteger(ids.size());
+            this.days = days;
+            this.emitter = emitter;
+
+            // 클라이언트가 끊으면 남은 앰프는 요청하지 않음
+            emitter.onCompletion(() -> closed = true);
+            emitter.onTimeout(() -> closed = true);
+            emitter.onError(e -> closed = true);
+        }
+
+        void start() {
+            int n = Math.min(props.getMaxConcurrent(), requested);
+            for (int i = 0; i < n; i++) {
+                launchNext();
+            }
+        }
+
+        private void launchNext() {
+            Integer ampId;
+            synchronized (queue) {
+                ampId = queue.poll();
+            }
+            if (ampId == null) return;
+
+            if (closed) {
+                finishOne();
+                launchNext();
+                return;
+            }
+
+            long t0 = System.currentTimeMillis();
+
+            // 저장소가 최신이면 앰프에 묻지 않음
+            if (logStoreProperties.isEnabled() && !logStore.isStale(ampId)) {
+                callbackExecutor.execute(() -> {
+                    try {
+                        byte[] records = logStore.snapshot(ampId);
+                        LogColumns cols = LogColumns.of(records, 0, records.length / LogPayloadParser.RECORD_SIZE);
+                        onLogs(ampId, "stored", cols, t0);
+                    } catch (RuntimeException e) {
+                        onFailure(ampId, e, t0);
+                    }
+                });
+                return;
+            }
+
+            commandSender.getLogsAsync(ampId).whenCompleteAsync((payload, ex) -> {
+                if (ex != null) {
+                    onFailure(ampId, ex, t0);
+                    return;
+                }
+                try {
+                    if (logStoreProperties.isEnabled()) logStore.append(ampId, payload);
+                    onLogs(ampId, "ok", LogPayloadParser.parseColumns(payload), t0);
+                } catch (RuntimeException e) {
+                    onFailure(ampId, e, t0);
+                }
+            }, callbackExecutor);
+        }
+
+        private void onLogs(int ampId, String status, LogColumns cols, long t0) {
+            List<LogInfoDto> logs = LogService.filterRecent(cols, days);
+            for (LogInfoDto li : logs) {
+                merged.add(new FleetLogEntryDto(ampId, li));
+            }
+            succeeded.incrementAndGet();
+
+            send("amp", new FleetLogAmpDto(ampId, status, null, System.currentTimeMillis() - t0, logs.size(), logs));
+            finishOne();
+            launchNext();
+        }
+
+        private void onFailure(int ampId, Throwable ex, long t0) {
+            Throwable c = CommandResultUtil.unwrap(ex);
+            failed.incrementAndGet();
+            log.warn("[LOG][FLEET] ampId={} failed cause={}", ampId, c.toString());
+
+            send("amp", new FleetLogAmpDto(ampId, CommandResultUtil.classify(c), c.getMessage(), System.currentTimeMillis() - t0, 0, List.of()));
+            finishOne();
+            launchNext();
+        }
+
+        private void finishOne() {
+            if (remaining.decrementAndGet() != 0) return;
+
+            List<FleetLogEntryDto> entries;
+            synchronized (merged) {
+                entries = new ArrayList<>(merged);
+            }
+            entries.sort(Comparator.comparing((FleetLogEntryDto e) -> e.getLog().getDateTime()).reversed());
+
+            long tookMs = System.currentTimeMillis() - startedAt;
+            log.info("[LOG][FLEET] done requested={} succeeded={} failed={} entries={} tookMs={}",
+                    requested, succeeded.get(), failed.get(), entries.size(), tookMs);
+
+            send("done", new FleetLogSummaryDto(days, requested, succeeded.get(), failed.get(), tookMs, entries.size(), entries));
+            if (!closed) emitter.complete();
+        }
+
+        // SseEmitter.send 는 thread-safe 하지 않음
+        private void send(String event, Object data) {
+            if (closed) return;
+            synchronized (emitter) {
+                try {
+                    emitter.send(SseEmitter.event().name(event).data(data));
+                } catch (IOException | IllegalStateException e) {
+                    closed = true;
+                    log.debug("[LOG][FLEET] client gone cause={}", e.toString());
+                }
+            }
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.nptechon.smartamp.log.service;
 
+import com.nptechon.smartamp.global.config.LogStoreProperties;
 import com.nptechon.smartamp.global.error.CustomException;
 import com.nptechon.smartamp.global.error.ErrorCode;
+import com.nptechon.smartamp.log.store.DeviceLogStore;
 import com.nptechon.smartamp.tcp.protocol.LogInfoDto;
+import com.nptechon.smartamp.tcp.protocol.payload.LogColumns;
 import com.nptechon.smartamp.tcp.protocol.payload.LogPayloadParser;
 import com.nptechon.smartamp.tcp.server.sender.CommandSender;
 import lombok.RequiredArgsConstructor;
@@ -11,7 +14,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Comparator;
+import java.time.ZoneOffset;
 import java.util.List;
 
 @Slf4j
@@ -22,23 +25,18 @@ public class LogService {
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
     private final CommandSender commandSender;
+    private final DeviceLogStore logStore;
+    private final LogStoreProperties logStoreProperties;
 
     public List<LogInfoDto> getRecentLogs(int ampId, int days) {
         validateDays(days);
 
         try {
-            byte[] payload = commandSender.getLogs(ampId);
+            LogColumns all = logStoreProperties.isEnabled()
+                    ? loadFromStore(ampId)
+                    : LogPayloadParser.parseColumns(commandSender.getLogs(ampId));
 
-            List<LogInfoDto> all = LogPayloadParser.parseLogResponsePayload(payload);
-
-            LocalDateTime now = LocalDateTime.now(KST);
-            LocalDateTime from = now.minusDays(days);
-
-            List<LogInfoDto> filtered = all.stream()
-                    .filter(li -> li.getDateTime() != null)
-                    .filter(li -> !li.getDateTime().isBefore(from) && !li.getDateTime().isAfter(now))
-                    .sorted(Comparator.comparing(LogInfoDto::getDateTime).reversed())
-                    .toList();
+            List<LogInfoDto> filtered = filterRecent(all, days);
 
             log.info("[LOG] ampId={} days={} total={} filtered={}", ampId, days, all.size(), filtered.size());
             return filtered;
@@ -51,7 +49,52 @@ public class LogService {
         }
     }
 
-    private void validateDays(int days) {
+    /**
+     * 저장소에 쌓인 로그만 조회 (앰프 요청 없음, 백그라운드 수집 결과)
+     */
+    public List<LogInfoDto> getStoredLogs(int ampId, int days) {
+        validateDays(days);
+
+        List<LogInfoDto> filtered = filterRecent(storedColumns(ampId), days);
+        log.info("[LOG][STORE] stored ampId={} days={} filtered={} lastSyncMs={}",
+                ampId, days, filtered.size(), logStore.lastSyncMs(ampId));
+        return filtered;
+    }
+
+    // 구간 필터 / 최신순 정렬은 컬럼에서, DTO 는 반환 항목만 생성
+    static List<LogInfoDto> filterRecent(LogColumns all, int days) {
+        LocalDateTime now = LocalDateTime.now(KST);
+        LocalDateTime from = now.minusDays(days);
+
+        return all.recentDescending(from.toEpochSecond(ZoneOffset.UTC), now.toEpochSecond(ZoneOffset.UTC));
+    }
+
+    private LogColumns storedColumns(int ampId) {
+        byte[] records = logStore.snapshot(ampId);
+        return LogColumns.of(records, 0, records.length / LogPayloadParser.RECORD_SIZE);
+    }
+
+    /**
+     * 저장소 기준 조회
+     * - 마지막 동기화가 staleMs 이내면 앰프에 요청하지 않음
+     * - 갱신 실패(offline/timeout) 시 저장된 이력이 있으면 그걸로 응답
+     */
+    private LogColumns loadFromStore(int ampId) {
+        if (logStore.isStale(ampId)) {
+            try {
+                int added = logStore.append(ampId, commandSender.getLogs(ampId));
+                log.info("[LOG][STORE] refreshed ampId={} added={}", ampId, added);
+            } catch (CustomException e) {
+                if (logStore.count(ampId) == 0) throw e;
+                log.warn("[LOG][STORE] refresh failed -> serve stored ampId={} code={} lastSyncMs={}",
+                        ampId, e.getErrorCode(), logStore.lastSyncMs(ampId));
+            }
+        }
+
+        return storedColumns(ampId);
+    }
+
+    static void validateDays(int days) {
         // 정책: 1~30만 허용 (원하면 90까지 확장 가능)
         if (days < 1 || days > 30) {
             throw new CustomException(ErrorCode.INVALID_REQUEST, "days는 1~30 범위만 가능합니다.");
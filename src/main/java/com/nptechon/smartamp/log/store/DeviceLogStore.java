@@ -0,0 +1,214 @@
+package com.nptechon.smartamp.log.store;
+
+import com.nptechon.smartamp.global.config.LogStoreProperties;
+import com.nptechon.smartamp.tcp.protocol.payload.LogPayloadParser;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 앰프 로그(0x85) 서버측 저장소
+ * - 앰프별 append-only 파일에 9바이트 원본 레코드를 그대로 이어 씀
+ * - (seq, 시각) 으로 중복 제거 → 앰프의 100건 ring 을 넘어 이력이 쌓임
+ * - 조회는 메모리에 올려둔 레코드로만 처리 (앰프 링크 사용 안 함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeviceLogStore {
+
+    private static final int REC = LogPayloadParser.RECORD_SIZE;
+
+    private final LogStoreProperties props;
+
+    private final ConcurrentHashMap<Integer, DeviceLog> devices = new ConcurrentHashMap<>();
+
+    private Path dir;
+
+    @PostConstruct
+    void init() {
+        if (!props.isEnabled()) return;
+
+        dir = Paths.get(props.getDir());
+        try {
+            Files.createDirectories(dir);
+            log.info("[LOG][STORE] dir={}", dir.toAbsolutePath());
+        } catch (IOException e) {
+            // 디스크를 못 쓰면 메모리에만 보관
+            log.warn("[LOG][STORE] disk disabled dir={} cause={}", dir, e.toString());
+            dir = null;
+        }
+    }
+
+    /**
+     * 0x85 payload(n + 9*n) 를 저장. 새로 추가된 레코드 수 반환
+     */
+    public int append(int ampId, byte[] payload) {
+        if (payload == null || payload.length < 1) return 0;
+
+        int n = Math.min(payload[0] & 0xFF, (payload.length - 1) / REC);
+        DeviceLog d = device(ampId);
+
+        synchronized (d) {
+            ByteBuffer fresh = ByteBuffer.allocate(n * REC);
+            for (int i = 0; i < n; i++) {
+                int off = 1 + i * REC;
+                if (d.keys.add(dedupKey(payload, off))) {
+                    byte[] rec = Arrays.copyOfRange(payload, off, off + REC);
+                    d.records.addLast(rec);
+                    fresh.put(rec);
+                }
+            }
+            d.lastSyncMs = System.currentTimeMillis();
+
+            int added = fresh.position();
+            if (added > 0) {
+                fresh.flip();
+                writeAppend(ampId, fresh);
+                trimIfNeeded(ampId, d);
+            }
+            return added / REC;
+        }
+    }
+
+    /**
+     * 저장된 원본 레코드를 저장 순서대로 이어붙인 사본 (9바이트 * n)
+     */
+    public byte[] snapshot(int ampId) {
+        DeviceLog d = known(ampId);
+        if (d == null) return new byte[0];
+        synchronized (d) {
+            ByteBuffer buf = ByteBuffer.allocate(d.records.size() * REC);
+            d.records.forEach(buf::put);
+            return buf.array();
+        }
+    }
+
+    public int count(int ampId) {
+        DeviceLog d = known(ampId);
+        if (d == null) return 0;
+        synchronized (d) {
+            return d.records.size();
+        }
+    }
+
+    public boolean isStale(int ampId) {
+        long last = lastSyncMs(ampId);
+        return last == 0 || System.currentTimeMillis() - last > props.getStaleMs();
+    }
+
+    // 동기화 시각은 메모리에만 있으므로 파일까지 볼 필요 없음
+    public long lastSyncMs(int ampId) {
+        DeviceLog d = devices.get(ampId);
+        return (d == null) ? 0 : d.lastSyncMs;
+    }
+
+    // seq(8bit) + 시각 7바이트(56bit) = 64bit
+    private static long dedupKey(byte[] b, int off) {
+        long k = b[off] & 0xFF;
+        for (int i = 2; i < REC; i++) {
+            k = (k << 8) | (b[off + i] & 0xFF);
+        }
+        return k;
+    }
+
+    // 파일 읽기는 map 밖에서 (computeIfAbsent 안에서 I/O 하면 같은 bin 의 다른 앰프까지 막힘)
+    // 동시에 둘이 읽으면 먼저 넣은 쪽을 쓰고 나머지는 버린다
+    private DeviceLog device(int ampId) {
+        DeviceLog d = devices.get(ampId);
+        if (d != null) return d;
+
+        DeviceLog loaded = load(ampId);
+        DeviceLog prev = devices.putIfAbsent(ampId, loaded);
+        return (prev != null) ? prev : loaded;
+    }
+
+    // 조회용: 메모리에 없고 파일도 없는 앰프는 항목을 만들지 않는다 (임의 ampId 조회로 map 이 커지는 것 방지)
+    private DeviceLog known(int ampId) {
+        DeviceLog d = devices.get(ampId);
+        if (d != null) return d;
+        if (dir == null || !Files.exists(fileOf(ampId))) return null;
+        return device(ampId);
+    }
+
+    // 기동 후 첫 접근 때 파일에서 복원 (lastSyncMs=0 → 첫 조회는 갱신)
+    private DeviceLog load(int ampId) {
+        DeviceLog d = new DeviceLog();
+        if (dir == null) return d;
+
+        Path file = fileOf(ampId);
+        try {
+            byte[] all = Files.readAllBytes(file);
+            int n = all.length / REC; // 끝에 잘린 레코드는 무시
+            for (int i = 0; i < n; i++) {
+                int off = i * REC;
+                if (d.keys.add(dedupKey(all, off))) {
+                    d.records.addLast(Arrays.copyOfRange(all, off, off + REC));
+                }
+            }
+            log.info("[LOG][STORE] loaded ampId={} records={}", ampId, d.records.size());
+        } catch (NoSuchFileException ignore) {
+            // 처음 보는 앰프
+        } catch (IOException e) {
+            log.warn("[LOG][STORE] load failed ampId={} cause={}", ampId, e.toString());
+        }
+        return d;
+    }
+
+    private void writeAppend(int ampId, ByteBuffer buf) {
+        if (dir == null) return;
+        try (FileChannel ch = FileChannel.open(fileOf(ampId),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buf.hasRemaining()) ch.write(buf);
+        } catch (IOException e) {
+            log.warn("[LOG][STORE] append failed ampId={} cause={}", ampId, e.toString());
+        }
+    }
+
+    // 보관 한도 초과 시 오래된 레코드 정리 후 파일 재작성 (tmp → atomic move)
+    // 한도의 90% 까지 줄여서, 한도에 붙은 뒤 append 마다 파일 전체를 다시 쓰지 않게 한다
+    private void trimIfNeeded(int ampId, DeviceLog d) {
+        int max = props.getMaxRecordsPerDevice();
+        if (d.records.size() <= max) return;
+
+        int keep = max - Math.max(1, max / 10);
+        while (d.records.size() > keep) {
+            byte[] old = d.records.pollFirst();
+            d.keys.remove(dedupKey(old, 0));
+        }
+
+        if (dir == null) return;
+        Path file = fileOf(ampId);
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            ByteBuffer buf = ByteBuffer.allocate(d.records.size() * REC);
+            d.records.forEach(buf::put);
+            Files.write(tmp, buf.array());
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("[LOG][STORE] compacted ampId={} records={}", ampId, d.records.size());
+        } catch (IOException e) {
+            log.warn("[LOG][STORE] compact failed ampId={} cause={}", ampId, e.toString());
+        }
+    }
+
+    private Path fileOf(int ampId) {
+        return dir.resolve("amp-" + ampId + ".log");
+    }
+
+    private static class DeviceLog {
+        private final Set<Long> keys = new HashSet<>();
+        private final ArrayDeque<byte[]> records = new ArrayDeque<>();
+        private volatile long lastSyncMs;
+    }
+}
@@ -0,0 +1,85 @@
+package com.nptechon.smartamp.schedule.controller;
+
+import com.nptechon.smartamp.global.ApiResponse;
+import com.nptechon.smartamp.schedule.dto.BroadcastScheduleDto;
+import com.nptechon.smartamp.schedule.dto.BroadcastScheduleSaveDto;
+import com.nptechon.smartamp.schedule.service.BroadcastScheduleService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/schedule")
+public class BroadcastScheduleController {
+
+    private final BroadcastScheduleService broadcastScheduleService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<BroadcastScheduleDto>>> list(HttpServletRequest request) {
+        List<BroadcastScheduleDto> result = broadcastScheduleService.list();
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "예약 방송 목록 조회 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+
+    @GetMapping("/{scheduleId}")
+    public ResponseEntity<ApiResponse<BroadcastScheduleDto>> get(@PathVariable String scheduleId, HttpServletRequest request) {
+        BroadcastScheduleDto result = broadcastScheduleService.get(scheduleId);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "예약 방송 조회 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+
+    @PutMapping("/{scheduleId}")
+    public ResponseEntity<ApiResponse<BroadcastScheduleDto>> save(@PathVariable String scheduleId, @RequestBody BroadcastScheduleSaveDto dto, HttpServletRequest request) {
+        log.info("broadcast schedule save.. scheduleId: {}, type: {}, cron: {}, fireAt: {}",
+                scheduleId, dto.getType(), dto.getCron(), dto.getFireAt());
+
+        BroadcastScheduleDto result = broadcastScheduleService.save(scheduleId, dto);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "예약 방송 저장 성공",
+                        result,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+
+    @DeleteMapping("/{scheduleId}")
+    public ResponseEntity<ApiResponse<Void>> delete(@PathVariable String scheduleId, HttpServletRequest request) {
+        broadcastScheduleService.delete(scheduleId);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok(
+                        "ok",
+                        "예약 방송 삭제 성공",
+                        null,
+                        request.getRequestId(),
+                        request.getRequestURI()
+                )
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.nptechon.smartamp.schedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BroadcastScheduleDto {
+    private BroadcastScheduleSaveDto schedule;
+    private String nextFireAt;   // 예약 안 됨이면 null
+    private String lastFireAt;
+    private String lastResult;   // 예: "ok 5/6"
+}
@@ -0,0 +1,27 @@
+package com.nptechon.smartamp.schedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 예약 방송 생성/수정 요청 + 파일 저장 형식
+ * - 대상: ampIds 또는 groupId
+ * - 시각: cron(반복, 초 포함 6필드) 또는 fireAt(1회, "2026-01-01T09:00:00")
+ * - enabled: 생략하면 활성
+ */
+@Getter
+@AllArgsConstructor
+public class BroadcastScheduleSaveDto {
+    private String scheduleId;
+    private BroadcastScheduleType type;
+    private List<Integer> ampIds;
+    private String groupId;
+    private int index;          // INDEX
+    private String content;     // KEYWORD
+    private int repeat;
+    private String cron;
+    private String fireAt;
+    private Boolean enabled;    // 생략(null)하면 true
+}
@@ -0,0 +1,6 @@
+package com.nptechon.smartamp.schedule.dto;
+
+public enum BroadcastScheduleType {
+    INDEX,     // 0x03 저장 음원
+    KEYWORD    // TTS
+}
@@ -0,0 +1,414 @@
+package com.nptechon.smartamp.schedule.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nptechon.smartamp.broadcast.dto.GroupBroadcastResultDto;
+import com.nptechon.smartamp.broadcast.service.KeywordService;
+import com.nptechon.smartamp.global.config.BroadcastScheduleProperties;
+import com.nptechon.smartamp.global.error.CustomException;
+import com.nptechon.smartamp.global.error.ErrorCode;
+import com.nptechon.smartamp.group.service.AmpGroupService;
+import com.nptechon.smartamp.schedule.dto.BroadcastScheduleDto;
+import com.nptechon.smartamp.schedule.dto.BroadcastScheduleSaveDto;
+import com.nptechon.smartamp.schedule.dto.BroadcastScheduleType;
+import com.nptechon.smartamp.tcp.server.sender.CommandSender;
+import com.nptechon.smartamp.tcp.server.session.TcpSessionManager;
+import com.nptechon.smartamp.tcp.util.RepeatValidatorUtil;
+import io.netty.channel.Channel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 예약 / 반복 방송
+ * - 정의는 로컬 JSON 파일에 저장, 기동 시 다시 예약
+ * - 발송 prepareLeadMs 전에 준비: TTS 사전 합성, 대상 채널 확인
+ * - INDEX: 발송 시각에 맞춰 각 채널 이벤트루프에 0x03 전송을 예약 (발송 시점에 요청 경로 작업 없음)
+ * - KEYWORD: 발송 시각에 미리 합성한 MP3 로 바로 0x04 → 그룹 전송
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BroadcastScheduleService {
+
+    private final BroadcastScheduleProperties props;
+    private final ObjectMapper objectMapper;
+    private final AmpGroupService ampGroupService;
+    private final TcpSessionManager sessionManager;
+    private final CommandSender commandSender;
+    private final KeywordService keywordService;
+
+    // cron / fireAt 은 앰프 시계(DateTime7)와 같은 KST 기준 (서버 TZ 와 무관)
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    // scheduleId -> 실행 상태 (접근은 synchronized)
+    private final Map<String, Entry> entries = new TreeMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    private static final class Entry {
+        private final BroadcastScheduleSaveDto def;
+        // 교체/삭제되면 false (이벤트루프에서 락 없이 확인)
+        private volatile boolean current = true;
+        private ScheduledFuture<?> pending;
+        private volatile long nextFireMs = -1;
+        private volatile long lastFireMs = -1;
+        private volatile String lastResult;
+
+        private Entry(BroadcastScheduleSaveDto def) {
+            this.def = def;
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        scheduler = Executors.newScheduledThreadPool(Math.max(1, props.getThreads()), r -> {
+            Thread t = new Thread(r, "broadcast-schedule");
+            t.setDaemon(true);
+            return t;
+        });
+
+        Path file = Paths.get(props.getFile());
+        if (!Files.exists(file)) return;
+
+        try {
+            List<BroadcastScheduleSaveDto> saved = objectMapper.readValue(file.toFile(), new TypeReference<>() {});
+            synchronized (this) {
+                for (BroadcastScheduleSaveDto def : saved) {
+                    Entry e = new Entry(def);
+                    entries.put(def.getScheduleId(), e);
+                    arm(e, System.currentTimeMillis());
+                }
+            }
+            log.info("[SCHEDULE] loaded schedules={} file={}", saved.size(), file.toAbsolutePath());
+        } catch (IOException e) {
+            log.warn("[SCHEDULE] load failed file={} cause={}", file, e.toString());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    public synchronized List<BroadcastScheduleDto> list() {
+        return entries.values().stream().map(BroadcastScheduleService::toDto).toList();
+    }
+
+    public synchronized BroadcastScheduleDto get(String scheduleId) {
+        return toDto(find(scheduleId));
+    }
+
+    /**
+     * 예약 생성 또는 교체 (기존 예약은 취소 후 다시 계산)
+     * - 파일 저장이 성공한 뒤에만 메모리 반영/예약 (실패 시 기존 상태 유지)
+     */
+    public synchronized BroadcastScheduleDto save(String scheduleId, BroadcastScheduleSaveDto dto) {
+        BroadcastScheduleSaveDto def = validate(scheduleId, dto);
+
+        Map<String, BroadcastScheduleSaveDto> next = definitions();
+        next.put(scheduleId, def);
+        persist(next.values());
+
+        Entry old = entries.get(scheduleId);
+        if (old != null) cancel(old);
+
+        Entry e = new Entry(def);
+        entries.put(scheduleId, e);
+        arm(e, System.currentTimeMillis());
+
+        log.info("[SCHEDULE] saved scheduleId={} type={} cron={} fireAt={} next={}",
+                scheduleId, def.getType(), def.getCron(), def.getFireAt(), format(e.nextFireMs));
+        return toDto(e);
+    }
+
+    public synchronized void delete(String scheduleId) {
+        Entry e = find(scheduleId);
+
+        Map<String, BroadcastScheduleSaveDto> next = definitions();
+        next.remove(scheduleId);
+        persist(next.values());
+
+        cancel(e);
+        entries.remove(scheduleId);
+
+        log.info("[SCHEDULE] deleted scheduleId={}", scheduleId);
+    }
+
+    // after 이후 다음 발송 시각에 맞춰 준비 작업 예약
+    private synchronized void arm(Entry e, long afterMs) {
+        if (!props.isEnabled() || Boolean.FALSE.equals(e.def.getEnabled()) || entries.get(e.def.getScheduleId()) != e) {
+            e.nextFireMs = -1;
+            return;
+        }
+
+        long next = nextFireMs(e.def, afterMs);
+        e.nextFireMs = next;
+        if (next < 0) return;
+
+        long now = System.currentTimeMillis();
+        long prepareAt = Math.max(afterMs, next - props.getPrepareLeadMs());
+        e.pending = scheduler.schedule(() -> prepare(e, next), Math.max(0, prepareAt - now), TimeUnit.MILLISECONDS);
+    }
+
+    // 교체/삭제 시에만 호출
+    private synchronized void cancel(Entry e) {
+        e.current = false;
+        if (e.pending != null) e.pending.cancel(false);
+        e.pending = null;
+        e.nextFireMs = -1;
+    }
+
+    // save/delete 가 persist() 중 monitor 를 잡고 있어도 발송 경로(이벤트루프)가 막히지 않도록 volatile 만 본다
+    private static boolean isCurrent(Entry e) {
+        return e.current;
+    }
+
+    /**
+     * 발송 전 준비 (broadcast-schedule 스레드)
+     */
+    private void prepare(Entry e, long fireMs) {
+        if (!isCurrent(e)) return;
+
+        BroadcastScheduleSaveDto def = e.def;
+        try {
+            if (def.getType() == BroadcastScheduleType.INDEX) {
+                scheduleIndex(e, fireMs);
+            } else {
+                byte[] mp3 = keywordService.prepareTts(def.getContent());
+                log.info("[SCHEDULE] prepared scheduleId={} bytes={} fireInMs={}",
+                        def.getScheduleId(), mp3.length, fireMs - System.currentTimeMillis());
+
+                long delay = Math.max(0, fireMs - System.currentTimeMillis());
+                synchronized (this) {
+                    if (!isCurrent(e)) return;
+                    e.pending = scheduler.schedule(() -> fireKeyword(e, fireMs, mp3), delay, TimeUnit.MILLISECONDS);
+                }
+                return; // 다음 회차는 발송 후 예약
+            }
+        } catch (RuntimeException ex) {
+            log.error("[SCHEDULE] prepare failed scheduleId={}", def.getScheduleId(), ex);
+            e.lastFireMs = fireMs;
+            e.lastResult = "error " + ex.getMessage();
+        }
+        arm(e, fireMs);
+    }
+
+    // 채널 이벤트루프에 발송 시각 맞춰 0x03 예약
+    // 준비 시점에 오프라인이던 멤버는 발송 시각에 세션을 다시 확인해서 보냄
+    private void scheduleIndex(Entry e, long fireMs) {
+        BroadcastScheduleSaveDto def = e.def;
+        Set<Integer> members = members(def);
+        Map<Integer, Channel> connected = connected(def, members);
+
+        AtomicInteger ok = new AtomicInteger();
+        AtomicInteger late = new AtomicInteger();
+        List<CompletableFuture<?>> replies = new ArrayList<>(members.size());
+        for (int ampId : members) {
+            Channel prepared = connected.get(ampId);
+            CompletableFuture<Boolean> reply = new CompletableFuture<>();
+            replies.add(reply.handle((r, ex) -> ex == null && r ? ok.incrementAndGet() : 0));
+
+            long delay = Math.max(0, fireMs - System.currentTimeMillis());
+            if (prepared != null) {
+                prepared.eventLoop().schedule(() -> {
+                    // 준비 후 재접속했으면 새 채널로
+                    Channel ch = prepared.isActive() ? prepared : sessionManager.get(ampId);
+                    sendIndex(e, ampId, ch, reply);
+                }, delay, TimeUnit.MILLISECONDS);
+            } else {
+                scheduler.schedule(() -> {
+                    Channel ch = sessionManager.get(ampId);
+                    if (ch != null && ch.isActive()) late.incrementAndGet();
+                    sendIndex(e, ampId, ch, reply);
+                }, delay, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        CompletableFuture.allOf(replies.toArray(CompletableFuture<?>[]::new)).whenComplete((v, ex) -> {
+            e.lastFireMs = fireMs;
+            e.lastResult = "ok " + ok.get() + "/" + members.size();
+            log.info("[SCHEDULE] fired scheduleId={} type=INDEX index={} started={}/{} connected={} lateConnected={}",
+                    def.getScheduleId(), def.getIndex(), ok.get(), members.size(), connected.size(), late.get());
+        });
+    }
+
+    private void sendIndex(Entry e, int ampId, Channel ch, CompletableFuture<Boolean> reply) {
+        if (!isCurrent(e) || ch == null || !ch.isActive()) {
+            reply.complete(false);
+            return;
+        }
+        BroadcastScheduleSaveDto def = e.def;
+        try {
+            commandSender.sendIndexAsync(ch, ampId, def.getIndex(), def.getRepeat()).whenComplete((r, ex) -> {
+                if (ex != null) reply.completeExceptionally(ex);
+                else reply.complete(r);
+            });
+        } catch (RuntimeException ex) {
+            reply.completeExceptionally(ex);
+        }
+    }
+
+    private void fireKeyword(Entry e, long fireMs, byte[] mp3) {
+        if (!isCurrent(e)) return;
+
+        BroadcastScheduleSaveDto def = e.def;
+        try {
+            Set<Integer> members = members(def);
+            GroupBroadcastResultDto r = keywordService.broadcastPrepared(
+                    "schedule-" + def.getScheduleId(), members, connected(def, members), mp3, def.getRepeat());
+
+            e.lastResult = "ok " + r.getStarted() + "/" + r.getRequested();
+            log.info("[SCHEDULE] fired scheduleId={} type=KEYWORD started={}/{} lateMs={}",
+                    def.getScheduleId(), r.getStarted(), r.getRequested(), r.getTotalLatencyMs());
+        } catch (RuntimeException ex) {
+            log.error("[SCHEDULE] fire failed scheduleId={}", def.getScheduleId(), ex);
+            e.lastResult = "error " + ex.getMessage();
+        } finally {
+            e.lastFireMs = fireMs;
+            arm(e, fireMs);
+        }
+    }
+
+    private Set<Integer> members(BroadcastScheduleSaveDto def) {
+        if (def.getGroupId() != null && !def.getGroupId().isBlank()) {
+            return ampGroupService.members(def.getGroupId());
+        }
+        return new LinkedHashSet<>(def.getAmpIds());
+    }
+
+    private Map<Integer, Channel> connected(BroadcastScheduleSaveDto def, Set<Integer> members) {
+        if (def.getGroupId() != null && !def.getGroupId().isBlank()) {
+            return ampGroupService.connected(def.getGroupId());
+        }
+        Map<Integer, Channel> out = new LinkedHashMap<>();
+        for (int ampId : members) {
+            Channel ch = sessionManager.get(ampId);
+            if (ch != null && ch.isActive()) out.put(ampId, ch);
+        }
+        return out;
+    }
+
+    // afterMs 이후 첫 발송 시각. 없으면 -1
+    static long nextFireMs(BroadcastScheduleSaveDto def, long afterMs) {
+        if (def.getCron() != null && !def.getCron().isBlank()) {
+            ZonedDateTime after = Instant.ofEpochMilli(afterMs).atZone(KST);
+            ZonedDateTime next = CronExpression.parse(def.getCron()).next(after);
+            return (next == null) ? -1 : next.toInstant().toEpochMilli();
+        }
+        long at = LocalDateTime.parse(def.getFireAt()).atZone(KST).toInstant().toEpochMilli();
+        return (at > afterMs) ? at : -1;
+    }
+
+    private BroadcastScheduleSaveDto validate(String scheduleId, BroadcastScheduleSaveDto dto) {
+        if (scheduleId == null || scheduleId.isBlank()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "scheduleId가 비어있습니다.");
+        }
+        if (dto == null || dto.getType() == null) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "type(INDEX/KEYWORD)이 필요합니다.");
+        }
+
+        boolean hasGroup = dto.getGroupId() != null && !dto.getGroupId().isBlank();
+        boolean hasAmps = dto.getAmpIds() != null && !dto.getAmpIds().isEmpty();
+        if (hasGroup == hasAmps) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "ampIds 또는 groupId 중 하나만 지정해야 합니다.");
+        }
+        if (hasGroup) ampGroupService.members(dto.getGroupId()); // 없으면 GROUP_NOT_FOUND
+
+        if (dto.getType() == BroadcastScheduleType.INDEX && (dto.getIndex() < 1 || dto.getIndex() > 100)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "Index 값은 1~100 사이여야 합니다.");
+        }
+        if (dto.getType() == BroadcastScheduleType.KEYWORD && (dto.getContent() == null || dto.getContent().isBlank())) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "content가 비어있습니다.");
+        }
+        if (!RepeatValidatorUtil.isValid(dto.getRepeat())) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "repeat 값은 1~5 또는 255(무한) 이어야 합니다.");
+        }
+
+        boolean hasCron = dto.getCron() != null && !dto.getCron().isBlank();
+        boolean hasFireAt = dto.getFireAt() != null && !dto.getFireAt().isBlank();
+        if (hasCron == hasFireAt) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "cron 또는 fireAt 중 하나만 지정해야 합니다.");
+        }
+        try {
+            if (hasCron) CronExpression.parse(dto.getCron());
+            else LocalDateTime.parse(dto.getFireAt());
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "예약 시각 형식이 올바르지 않습니다: " + e.getMessage());
+        }
+
+        return new BroadcastScheduleSaveDto(scheduleId, dto.getType(),
+                hasAmps ? List.copyOf(new LinkedHashSet<>(dto.getAmpIds())) : null,
+                hasGroup ? dto.getGroupId() : null,
+                dto.getIndex(), dto.getContent(), dto.getRepeat(),
+                hasCron ? dto.getCron() : null, hasFireAt ? dto.getFireAt() : null,
+                dto.getEnabled() == null || dto.getEnabled());
+    }
+
+    private Entry find(String scheduleId) {
+        Entry e = entries.get(scheduleId);
+        if (e == null) {
+            throw new CustomException(ErrorCode.SCHEDULE_NOT_FOUND, "scheduleId=" + scheduleId);
+        }
+        return e;
+    }
+
+    private static BroadcastScheduleDto toDto(Entry e) {
+        return new BroadcastScheduleDto(e.def, format(e.nextFireMs), format(e.lastFireMs), e.lastResult);
+    }
+
+    private static String format(long epochMs) {
+        if (epochMs < 0) return null;
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMs), KST).toString();
+    }
+
+    private Map<String, BroadcastScheduleSaveDto> definitions() {
+        Map<String, BroadcastScheduleSaveDto> defs = new TreeMap<>();
+        entries.forEach((id, x) -> defs.put(id, x.def));
+        return defs;
+    }
+
+    // tmp 파일에 쓰고 atomic move
+    private void persist(Collection<BroadcastScheduleSaveDto> defs) {
+        Path file = Paths.get(props.getFile());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(tmp.toFile(), List.copyOf(defs));
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("[SCHEDULE] persist failed file={}", file, e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "예약 저장에 실패했습니다.");
+        }
+    }
+}
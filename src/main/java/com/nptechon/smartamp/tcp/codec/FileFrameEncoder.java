@@ -77,6 +77,32 @@ public final class FileFrameEncoder {
         return out;
     }
 
+    /** FD: src 의 readerIndex 부터 length(≤508)B 를 바로 담고 나머지는 0 padding */
+    public static ByteBuf encodeData(
+            ByteBufAllocator alloc,
+            int seq,
+            ByteBuf src,
+            int length
+    ) {
+        if (length < 0 || length > DATA_SIZE) {
+            throw new IllegalArgumentException(
+                    "length must be 0.." + DATA_SIZE
+            );
+        }
+
+        ByteBuf out = alloc.buffer(FRAME_SIZE, FRAME_SIZE);
+
+        out.writeByte('F');
+        out.writeByte('D');
+
+        // seq Little Endian
+        out.writeByte(seq & 0xFF);
+        out.writeByte((seq >> 8) & 0xFF);
+
+        out.writeBytes(src, length);
+        out.writeZero(DATA_SIZE - length);
+        return out;
+    }
 
     /** FE */
     public static ByteBuf encodeEnd(ByteBufAllocator alloc) {
@@ -0,0 +1,120 @@
+package com.nptechon.smartamp.tcp.protocol.payload;
+
+import com.nptechon.smartamp.tcp.protocol.LogInfoDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 9바이트 로그 레코드를 primitive 컬럼으로 디코딩한 결과
+ * - seq / type / epochSec(로컬 시각 기준, zone 없음)
+ * - 시간 구간 필터 + 정렬은 컬럼에서 처리하고, 반환하는 항목만 LogInfoDto 생성
+ */
+public final class LogColumns {
+
+    private static final int REC = LogPayloadParser.RECORD_SIZE;
+
+    // 정렬 키 하위 비트에 원래 index 를 넣음 (최대 2^20 건)
+    private static final int IDX_BITS = 20;
+    private static final long IDX_MASK = (1L << IDX_BITS) - 1;
+
+    private final byte[] src;
+    private final int[] offset;
+    private final int[] seq;
+    private final int[] type;
+    private final long[] epochSec;
+    private final int size;
+
+    private LogColumns(byte[] src, int off, int count) {
+        if (count > IDX_MASK) {
+            throw new IllegalArgumentException("too many log records: " + count);
+        }
+        this.src = src;
+        this.size = count;
+        this.offset = new int[count];
+        this.seq = new int[count];
+        this.type = new int[count];
+        this.epochSec = new long[count];
+
+        int o = off;
+        for (int i = 0; i < count; i++) {
+            offset[i] = o;
+            seq[i] = src[o] & 0xFF;
+            type[i] = src[o + 1] & 0xFF;
+            epochSec[i] = localEpochSec(
+                    src[o + 2] & 0xFF, src[o + 3] & 0xFF, src[o + 4] & 0xFF,
+                    src[o + 6] & 0xFF, src[o + 7] & 0xFF, src[o + 8] & 0xFF);
+            o += REC;
+        }
+    }
+
+    /**
+     * buf[off..] 에 연속된 count 개 레코드
+     */
+    public static LogColumns of(byte[] buf, int off, int count) {
+        if (off + count * REC > buf.length) {
+            throw new IllegalArgumentException("log records truncated. count=" + count + " len=" + buf.length);
+        }
+        return new LogColumns(buf, off, count);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int seq(int i) {
+        return seq[i];
+    }
+
+    public int type(int i) {
+        return type[i];
+    }
+
+    public long epochSec(int i) {
+        return epochSec[i];
+    }
+
+    /**
+     * [fromSec, toSec] 구간 항목을 최신순으로 (같은 시각은 원래 순서 유지)
+     * - 인자는 LocalDateTime.toEpochSecond(ZoneOffset.UTC) 기준
+     */
+    public List<LogInfoDto> recentDescending(long fromSec, long toSec) {
+        long[] keys = new long[size];
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            long t = epochSec[i];
+            if (t >= fromSec && t <= toSec) {
+                keys[n++] = (t << IDX_BITS) | (IDX_MASK - i);
+            }
+        }
+        Arrays.sort(keys, 0, n);
+
+        List<LogInfoDto> out = new ArrayList<>(n);
+        for (int k = n - 1; k >= 0; k--) {
+            int i = (int) (IDX_MASK - (keys[k] & IDX_MASK));
+            out.add(LogPayloadParser.parseRecord(src, offset[i]));
+        }
+        return out;
+    }
+
+    // LogPayloadParser.toLocalDateTime 과 같은 clamp 기준
+    static long localEpochSec(int yy, int mm, int dd, int hh, int mi, int ss) {
+        long days = daysFromCivil(2000 + yy, clamp(mm, 1, 12), clamp(dd, 1, 31));
+        return days * 86_400 + clamp(hh, 0, 23) * 3600L + clamp(mi, 0, 59) * 60L + clamp(ss, 0, 59);
+    }
+
+    // 1970-01-01 기준 일수 (proleptic Gregorian)
+    private static long daysFromCivil(int y, int m, int d) {
+        y -= (m <= 2) ? 1 : 0;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yoe = y - era * 400;
+        int doy = (153 * (m + (m > 2 ? -3 : 9)) + 2) / 5 + d - 1;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return (long) era * 146_097 + doe - 719_468;
+    }
+
+    private static int clamp(int v, int lo, int hi) {
+        return Math.max(lo, Math.min(hi, v));
+    }
+}
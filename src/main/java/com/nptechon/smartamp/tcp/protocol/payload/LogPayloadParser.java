@@ -12,51 +12,75 @@ public final class LogPayloadParser {
 
     private LogPayloadParser() {}
 
+    // seq(1) + type(1) + yy mm dd ww hh mi ss(7)
+    public static final int RECORD_SIZE = 9;
+
+    public static final int MAX_ENTRIES = 200;
+
     public static List<LogInfoDto> parseLogResponsePayload(byte[] payload) {
+        int n = validate(payload);
+
+        List<LogInfoDto> out = new ArrayList<>(n);
+
+        int off = 1;
+        for (int i = 0; i < n; i++) {
+            out.add(parseRecord(payload, off));
+            off += RECORD_SIZE;
+        }
+
+        return out;
+    }
+
+    /**
+     * 0x85 payload 를 컬럼으로만 디코딩 (DTO 는 필요한 항목만 나중에 생성)
+     */
+    public static LogColumns parseColumns(byte[] payload) {
+        int n = validate(payload);
+        return LogColumns.of(payload, 1, n);
+    }
+
+    private static int validate(byte[] payload) {
         if (payload == null || payload.length < 1) {
             throw new IllegalArgumentException("log payload empty");
         }
 
         int n = payload[0] & 0xFF;
-        if (n > 200) {
+        if (n > MAX_ENTRIES) {
             throw new IllegalArgumentException("log count too large: " + n);
         }
 
-        int expectedMinLen = 1 + (9 * n);
+        int expectedMinLen = 1 + (RECORD_SIZE * n);
         if (payload.length < expectedMinLen) {
             throw new IllegalArgumentException("log payload length mismatch. n=" + n +
                     " expected>=" + expectedMinLen + " actual=" + payload.length);
         }
+        return n;
+    }
 
-        List<LogInfoDto> out = new ArrayList<>(n);
-
-        int off = 1;
-        for (int i = 0; i < n; i++) {
-            int seq = payload[off] & 0xFF;  off += 1;
-            int type = payload[off] & 0xFF; off += 1;
-
-            int yy = payload[off] & 0xFF;
-            int mm = payload[off + 1] & 0xFF;
-            int dd = payload[off + 2] & 0xFF;
-            int ww = payload[off + 3] & 0xFF;
-            int hh = payload[off + 4] & 0xFF;
-            int mi = payload[off + 5] & 0xFF;
-            int ss = payload[off + 6] & 0xFF;
-            off += 7;
-//            log.info("로그 응답 파싱 결과.. seq={}, type={}, yy={}, mm={}, dd={}, ww={}, hh={}, mi={}, ss={}", seq, type, yy, mm, dd, ww, hh, mi, ss);
-
-            LocalDateTime dt = toLocalDateTime(yy, mm, dd, hh, mi, ss);
-
-
-            out.add(new LogInfoDto(
-                    seq, type,
-                    yy, mm, dd, ww,
-                    hh, mi, ss,
-                    dt
-            ));
-        }
-
-        return out;
+    /**
+     * 9바이트 레코드 1건: seq(1) type(1) yy mm dd ww hh mi ss(7)
+     */
+    public static LogInfoDto parseRecord(byte[] buf, int off) {
+        int seq = buf[off] & 0xFF;
+        int type = buf[off + 1] & 0xFF;
+
+        int yy = buf[off + 2] & 0xFF;
+        int mm = buf[off + 3] & 0xFF;
+        int dd = buf[off + 4] & 0xFF;
+        int ww = buf[off + 5] & 0xFF;
+        int hh = buf[off + 6] & 0xFF;
+        int mi = buf[off + 7] & 0xFF;
+        int ss = buf[off + 8] & 0xFF;
+//        log.info("로그 응답 파싱 결과.. seq={}, type={}, yy={}, mm={}, dd={}, ww={}, hh={}, mi={}, ss={}", seq, type, yy, mm, dd, ww, hh, mi, ss);
+
+        LocalDateTime dt = toLocalDateTime(yy, mm, dd, hh, mi, ss);
+
+        return new LogInfoDto(
+                seq, type,
+                yy, mm, dd, ww,
+                hh, mi, ss,
+                dt
+        );
     }
 
     private static LocalDateTime toLocalDateTime(int yy, int mm, int dd,
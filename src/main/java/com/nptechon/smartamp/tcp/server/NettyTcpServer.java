@@ -1,20 +1,26 @@
 package com.nptechon.smartamp.tcp.server;
 
 import com.nptechon.smartamp.global.config.TcpServerProperties;
+import com.nptechon.smartamp.healthCheck.StartupReport;
 import com.nptechon.smartamp.tcp.codec.SmartAmpFrameDecoder;
+import com.nptechon.smartamp.tcp.server.handler.AdmissionHandler;
 import com.nptechon.smartamp.tcp.server.handler.AmpInboundHandler;
+import com.nptechon.smartamp.tcp.server.link.AdmissionControl;
 import com.nptechon.smartamp.tcp.server.sender.CommandSender;
+import com.nptechon.smartamp.tcp.server.sender.OfflineCommandQueue;
 import com.nptechon.smartamp.tcp.server.session.TcpSessionManager;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.*;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.unix.UnixChannelOption;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -23,21 +29,38 @@ public class NettyTcpServer {
     private final TcpServerProperties props;
     private final TcpSessionManager sessionManager;
     private final CommandSender commandSender;
+    private final OfflineCommandQueue offlineQueue;
+    private final AdmissionControl admission;
+    private final StartupReport startupReport;
 
     private EventLoopGroup boss;
     private EventLoopGroup worker;
-    private Channel serverChannel;
+    private final List<Channel> serverChannels = new ArrayList<>();
 
     @PostConstruct
     public void start() throws InterruptedException {
-        boss = new NioEventLoopGroup(props.getBossThreads());
+        NettyTransport transport = NettyTransport.resolve(props.getTransport());
+        IoHandlerFactory ioHandler = transport.ioHandlerFactory();
+
+        // SO_REUSEPORT: boss event loop 마다 acceptor 하나씩 같은 포트에 bind
+        boolean reusePort = props.isReusePort() && transport.isNative();
+        if (props.isReusePort() && !reusePort) {
+            log.warn("[TCP][TRANSPORT] reusePort requires native transport -> single acceptor");
+        }
+        int acceptors = !reusePort ? 1
+                : (props.getAcceptors() > 0 ? props.getAcceptors() : Runtime.getRuntime().availableProcessors());
+
+        boss = new MultiThreadIoEventLoopGroup(reusePort ? acceptors : props.getBossThreads(), ioHandler);
         worker = (props.getWorkerThreads() <= 0)
-                ? new NioEventLoopGroup()
-                : new NioEventLoopGroup(props.getWorkerThreads());
+                ? new MultiThreadIoEventLoopGroup(ioHandler)
+                : new MultiThreadIoEventLoopGroup(props.getWorkerThreads(), ioHandler);
+
+        // 모든 채널 공용 (stateless)
+        AdmissionHandler admissionHandler = new AdmissionHandler(admission);
 
         ServerBootstrap b = new ServerBootstrap();
         b.group(boss, worker)
-                .channel(NioServerSocketChannel.class)
+                .channel(transport.serverChannelClass())
                 .option(ChannelOption.SO_BACKLOG, 1024)
                 .childOption(ChannelOption.SO_KEEPALIVE, true)
                 .childOption(ChannelOption.TCP_NODELAY, true)
@@ -45,19 +68,31 @@ public class NettyTcpServer {
                     @Override
                     protected void initChannel(Channel ch) {
                         ChannelPipeline p = ch.pipeline();
+                        p.addLast(admissionHandler);
                         p.addLast(new SmartAmpFrameDecoder());
-                        p.addLast(new AmpInboundHandler(sessionManager, commandSender));
+                        p.addLast(new AmpInboundHandler(sessionManager, commandSender, offlineQueue, admission));
                     }
                 });
 
-        serverChannel = b.bind(props.getPort()).sync().channel();
-        log.info("=== Netty TCP server started at port {} ===", props.getPort());
+        if (reusePort) {
+            b.option(UnixChannelOption.SO_REUSEPORT, true);
+        }
+        if (props.getTcpUserTimeoutMs() > 0 && transport.tcpUserTimeoutOption() != null) {
+            b.childOption(transport.tcpUserTimeoutOption(), props.getTcpUserTimeoutMs());
+        }
+
+        for (int i = 0; i < acceptors; i++) {
+            serverChannels.add(b.bind(props.getPort()).sync().channel());
+        }
+        log.info("=== Netty TCP server started at port {} transport={} acceptors={} ===",
+                props.getPort(), transport, acceptors);
+        startupReport.markTcpListening();
     }
 
     @PreDestroy
     public void stop() {
         try {
-            if (serverChannel != null) serverChannel.close();
+            serverChannels.forEach(Channel::close);
         } finally {
             if (worker != null) worker.shutdownGracefully();
             if (boss != null) boss.shutdownGracefully();
@@ -0,0 +1,106 @@
+package com.nptechon.smartamp.tcp.server;
+
+import io.netty.channel.ChannelOption;
+import io.netty.channel.IoHandlerFactory;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollIoHandler;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.uring.IoUring;
+import io.netty.channel.uring.IoUringChannelOption;
+import io.netty.channel.uring.IoUringIoHandler;
+import io.netty.channel.uring.IoUringServerSocketChannel;
+import io.netty.channel.uring.IoUringSocketChannel;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Netty transport 선택 (nio / epoll / io_uring)
+ * - auto: epoll 가능하면 epoll, 아니면 nio (io_uring 은 명시했을 때만)
+ * - 설정한 native transport 를 못 쓰면 이유를 남기고 nio 로 fallback
+ */
+@Slf4j
+public enum NettyTransport {
+
+    NIO, EPOLL, IO_URING;
+
+    public static NettyTransport resolve(String configured) {
+        String name = (configured == null) ? "auto" : configured.trim().toLowerCase();
+
+        NettyTransport wanted = switch (name) {
+            case "auto" -> EPOLL.isAvailable() ? EPOLL : NIO;
+            case "nio" -> NIO;
+            case "epoll" -> EPOLL;
+            case "io_uring", "io-uring", "iouring" -> IO_URING;
+            default -> {
+                log.warn("[TCP][TRANSPORT] unknown transport={} -> nio", configured);
+                yield NIO;
+            }
+        };
+
+        if (!wanted.isAvailable()) {
+            log.warn("[TCP][TRANSPORT] {} unavailable -> nio cause={}", wanted, String.valueOf(wanted.unavailabilityCause()));
+            return NIO;
+        }
+        return wanted;
+    }
+
+    public boolean isAvailable() {
+        return switch (this) {
+            case NIO -> true;
+            case EPOLL -> Epoll.isAvailable();
+            case IO_URING -> IoUring.isAvailable();
+        };
+    }
+
+    public Throwable unavailabilityCause() {
+        return switch (this) {
+            case NIO -> null;
+            case EPOLL -> Epoll.unavailabilityCause();
+            case IO_URING -> IoUring.unavailabilityCause();
+        };
+    }
+
+    // SO_REUSEPORT / TCP_USER_TIMEOUT 는 native 에서만
+    public boolean isNative() {
+        return this != NIO;
+    }
+
+    public IoHandlerFactory ioHandlerFactory() {
+        return switch (this) {
+            case NIO -> NioIoHandler.newFactory();
+            case EPOLL -> EpollIoHandler.newFactory();
+            case IO_URING -> IoUringIoHandler.newFactory();
+        };
+    }
+
+    public Class<? extends ServerSocketChannel> serverChannelClass() {
+        return switch (this) {
+            case NIO -> NioServerSocketChannel.class;
+            case EPOLL -> EpollServerSocketChannel.class;
+            case IO_URING -> IoUringServerSocketChannel.class;
+        };
+    }
+
+    public Class<? extends SocketChannel> socketChannelClass() {
+        return switch (this) {
+            case NIO -> NioSocketChannel.class;
+            case EPOLL -> EpollSocketChannel.class;
+            case IO_URING -> IoUringSocketChannel.class;
+        };
+    }
+
+    // nio 는 null
+    public ChannelOption<Integer> tcpUserTimeoutOption() {
+        return switch (this) {
+            case NIO -> null;
+            case EPOLL -> EpollChannelOption.TCP_USER_TIMEOUT;
+            case IO_URING -> IoUringChannelOption.TCP_USER_TIMEOUT;
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.nptechon.smartamp.tcp.server.handler;
+
+import com.nptechon.smartamp.tcp.server.link.AdmissionControl;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파이프라인 맨 앞에서 새 연결을 거르는 핸들러 (모든 채널 공용)
+ * - 거절된 연결은 decoder/session 까지 가지 않고 바로 close
+ * - 등록 시간 초과 채널도 여기서 close
+ */
+@Slf4j
+@ChannelHandler.Sharable
+@RequiredArgsConstructor
+public class AdmissionHandler extends ChannelInboundHandlerAdapter {
+
+    private final AdmissionControl admission;
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) {
+        Channel ch = ctx.channel();
+        String ip = ipOf(ch.remoteAddress());
+
+        AdmissionControl.Decision d = admission.tryAccept(ch, ip);
+        if (d != AdmissionControl.Decision.ACCEPT) {
+            log.warn("[TCP][ADMISSION] reject remote={} reason={}", ch.remoteAddress(), d);
+            ctx.close();
+            return;
+        }
+
+        ctx.executor().schedule(() -> {
+            if (ch.isActive() && admission.isPending(ch)) {
+                log.warn("[TCP][ADMISSION] register timeout -> close remote={} ch={}", ch.remoteAddress(), ch.id());
+                admission.onRegisterTimeout(ch);
+                ch.close();
+            }
+        }, admission.registerTimeoutMs(), TimeUnit.MILLISECONDS);
+
+        ctx.fireChannelActive();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        admission.onClosed(ctx.channel());
+        ctx.fireChannelInactive();
+    }
+
+    private static String ipOf(SocketAddress addr) {
+        if (addr instanceof InetSocketAddress isa && isa.getAddress() != null) {
+            return isa.getAddress().getHostAddress();
+        }
+        return String.valueOf(addr);
+    }
+}
@@ -6,9 +6,12 @@ import com.nptechon.smartamp.tcp.codec.CommandPacketCodec;
 import com.nptechon.smartamp.tcp.protocol.AmpOpcode;
 import com.nptechon.smartamp.tcp.protocol.CommandPacket;
 import com.nptechon.smartamp.tcp.protocol.DateTime7;
+import com.nptechon.smartamp.tcp.server.link.AdmissionControl;
 import com.nptechon.smartamp.tcp.server.sender.CommandSender;
+import com.nptechon.smartamp.tcp.server.sender.OfflineCommandQueue;
 import com.nptechon.smartamp.tcp.server.session.TcpSessionManager;
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import lombok.RequiredArgsConstructor;
@@ -20,14 +23,17 @@ public class AmpInboundHandler extends SimpleChannelInboundHandler<ByteBuf> {
 
     private final TcpSessionManager sessionManager;
     private final CommandSender commandSender;
+    private final OfflineCommandQueue offlineQueue;
+    private final AdmissionControl admission;
 
 
     @Override
     public void channelInactive(ChannelHandlerContext ctx) {
         Integer ampId = sessionManager.getBoundDeviceId(ctx.channel());
-        sessionManager.unbind(ctx.channel());
+        boolean current = sessionManager.unbind(ctx.channel());
 
-        if (ampId != null) {
+        // 재등록으로 교체된 이전 채널이면 새 세션의 pending 은 건드리지 않는다
+        if (ampId != null && current) {
             commandSender.failAllPending(ampId, new CustomException(ErrorCode.DEVICE_OFFLINE));
         }
 
@@ -58,8 +64,8 @@ public class AmpInboundHandler extends SimpleChannelInboundHandler<ByteBuf> {
                 cause.toString());
 
         // 세션 정리 + 채널 종료
-        sessionManager.unbind(ctx.channel());
-        if (ampId != null) {
+        boolean current = sessionManager.unbind(ctx.channel());
+        if (ampId != null && current) {
             commandSender.failAllPending(ampId, new CustomException(ErrorCode.DEVICE_OFFLINE));
         }
         ctx.close();
@@ -73,7 +79,14 @@ public class AmpInboundHandler extends SimpleChannelInboundHandler<ByteBuf> {
         switch (opcode) {
             // DEVICE_REGISTER (Request)
             case 0x01 -> {
-                sessionManager.bind(ampId, ctx.channel());
+                Channel replaced = sessionManager.bind(ampId, ctx.channel());
+                admission.onRegistered(ctx.channel(), replaced != null);
+                if (replaced != null) {
+                    // 이전 채널로 보낸 요청의 응답은 오지 않는다
+                    commandSender.failAllPending(ampId, new CustomException(ErrorCode.DEVICE_OFFLINE));
+                }
+                // 새 연결이므로 circuit breaker 초기화
+                commandSender.onDeviceRegistered(ampId);
                 log.info("---> Send Packet to Amp");
                 log.info("---> Device Register Request ampId={} channel={}", ampId, ctx.channel().id());
 
@@ -89,6 +102,8 @@ public class AmpInboundHandler extends SimpleChannelInboundHandler<ByteBuf> {
                 );
                 ctx.writeAndFlush(ack);
 
+                // 오프라인 동안 보관된 명령을 ACK 뒤에 이어서 전송
+                offlineQueue.flush(ampId, ctx.channel());
             }
 
             // AMP_CONTROL_RESPONSE (0x82)
@@ -0,0 +1,162 @@
+package com.nptechon.smartamp.tcp.server.link;
+
+import com.nptechon.smartamp.global.config.AdmissionProperties;
+import com.nptechon.smartamp.link.dto.AdmissionStatsDto;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 접속/등록 admission control
+ * - accept: IP 별 token bucket → 전체 token bucket → pending 등록 수 상한 순으로 확인, 거절이면 바로 close
+ * - 등록(0x01) 전까지는 pending 으로 세고, registerTimeoutMs 안에 등록 안 하면 close
+ * - 접속/등록 속도는 1초 단위로 샘플링
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdmissionControl {
+
+    public enum Decision { ACCEPT, REJECT_PER_IP, REJECT_GLOBAL, REJECT_PENDING }
+
+    // 등록 전 채널 표시 (값이 있으면 pending)
+    private static final AttributeKey<Boolean> ATTR_PENDING = AttributeKey.valueOf("admissionPending");
+
+    private final AdmissionProperties props;
+
+    private final Map<String, TokenBucket> perIp = new ConcurrentHashMap<>();
+    private TokenBucket global;
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejectedPerIp = new LongAdder();
+    private final LongAdder rejectedGlobal = new LongAdder();
+    private final LongAdder rejectedPending = new LongAdder();
+    private final LongAdder registered = new LongAdder();
+    private final LongAdder replaced = new LongAdder();
+    private final LongAdder registerTimeouts = new LongAdder();
+
+    // 1초 샘플
+    private long lastAccepted;
+    private long lastRegistered;
+    private volatile long acceptPerSec;
+    private volatile long registerPerSec;
+    private volatile long peakAcceptPerSec;
+    private volatile long peakRegisterPerSec;
+
+    @PostConstruct
+    void init() {
+        global = new TokenBucket(props.getGlobalRatePerSec(), props.getGlobalBurst());
+    }
+
+    /**
+     * 새 TCP 연결 (channelActive). ACCEPT 면 pending 으로 등록
+     */
+    public Decision tryAccept(Channel ch, String ip) {
+        if (props.isEnabled()) {
+            TokenBucket b = perIp.computeIfAbsent(ip, k -> new TokenBucket(props.getPerIpRatePerSec(), props.getPerIpBurst()));
+            if (!b.tryAcquire()) {
+                rejectedPerIp.increment();
+                return Decision.REJECT_PER_IP;
+            }
+            if (!global.tryAcquire()) {
+                rejectedGlobal.increment();
+                return Decision.REJECT_GLOBAL;
+            }
+            if (pending.incrementAndGet() > props.getMaxPendingRegistrations()) {
+                pending.decrementAndGet();
+                rejectedPending.increment();
+                return Decision.REJECT_PENDING;
+            }
+        } else {
+            pending.incrementAndGet();
+        }
+
+        ch.attr(ATTR_PENDING).set(Boolean.TRUE);
+        accepted.increment();
+        return Decision.ACCEPT;
+    }
+
+    public boolean isPending(Channel ch) {
+        return ch.attr(ATTR_PENDING).get() != null;
+    }
+
+    // DEVICE_REGISTER(0x01) 처리 시
+    public void onRegistered(Channel ch, boolean replacedOld) {
+        if (ch.attr(ATTR_PENDING).getAndSet(null) != null) {
+            pending.decrementAndGet();
+            registered.increment();
+        }
+        if (replacedOld) replaced.increment();
+    }
+
+    public void onRegisterTimeout(Channel ch) {
+        registerTimeouts.increment();
+        onClosed(ch);
+    }
+
+    // 등록 전에 끊긴 경우 pending 자리 반환
+    public void onClosed(Channel ch) {
+        if (ch.attr(ATTR_PENDING).getAndSet(null) != null) {
+            pending.decrementAndGet();
+        }
+    }
+
+    public long registerTimeoutMs() {
+        return props.getRegisterTimeoutMs();
+    }
+
+    @Scheduled(fixedRate = 1000)
+    public void sample() {
+        long a = accepted.sum();
+        long r = registered.sum();
+        acceptPerSec = a - lastAccepted;
+        registerPerSec = r - lastRegistered;
+        lastAccepted = a;
+        lastRegistered = r;
+        peakAcceptPerSec = Math.max(peakAcceptPerSec, acceptPerSec);
+        peakRegisterPerSec = Math.max(peakRegisterPerSec, registerPerSec);
+
+        if (acceptPerSec > 0 || registerPerSec > 0) {
+            log.debug("[TCP][ADMISSION] acceptPerSec={} registerPerSec={} pending={}", acceptPerSec, registerPerSec, pending.get());
+        }
+        evictIdleBuckets();
+    }
+
+    // bucket 이 다 찼을 시간만큼 안 쓴 IP 는 새로 만들어도 같으니 제거, 상한 넘으면 오래된 것부터
+    private void evictIdleBuckets() {
+        long now = System.currentTimeMillis();
+        long idleMs = (long) Math.ceil(props.getPerIpBurst() / Math.max(0.001, props.getPerIpRatePerSec()) * 1000);
+        perIp.entrySet().removeIf(e -> now - e.getValue().getLastUsedMs() > idleMs);
+
+        int over = perIp.size() - props.getMaxTrackedIps();
+        if (over > 0) {
+            perIp.entrySet().stream()
+                    .sorted(Comparator.comparingLong(e -> e.getValue().getLastUsedMs()))
+                    .limit(over)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(perIp::remove);
+        }
+    }
+
+    public AdmissionStatsDto snapshot() {
+        return new AdmissionStatsDto(
+                accepted.sum(), rejectedPerIp.sum(), rejectedGlobal.sum(), rejectedPending.sum(),
+                registered.sum(), replaced.sum(), registerTimeouts.sum(),
+                acceptPerSec, registerPerSec, peakAcceptPerSec, peakRegisterPerSec,
+                pending.get(), perIp.size()
+        );
+    }
+}
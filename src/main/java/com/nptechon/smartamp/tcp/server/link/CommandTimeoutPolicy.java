@@ -0,0 +1,48 @@
+package com.nptechon.smartamp.tcp.server.link;
+
+import com.nptechon.smartamp.global.config.CommandTimeoutProperties;
+import com.nptechon.smartamp.tcp.protocol.AmpOpcode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+
+/**
+ * 앰프 + opcode 별 응답 timeout 계산
+ * - LAN 앰프는 빨리 실패하고, LTE 등 느린 앰프는 오탐 timeout 이 줄어들도록 관측 RTT 분포 기준으로 잡는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommandTimeoutPolicy {
+
+    private final CommandTimeoutProperties props;
+    private final LinkEstimator linkEstimator;
+
+    public long timeoutMs(int ampId, AmpOpcode opcode) {
+        long fallback = defaultMs(opcode);
+        if (!props.isAdaptive()) return fallback;
+
+        OptionalLong p = linkEstimator.rttPercentileNanos(ampId, opcode, props.getPercentile(), props.getMinSamples());
+        if (p.isEmpty()) return fallback;
+
+        long adaptive = (long) Math.ceil(p.getAsLong() / 1_000_000.0 * props.getMargin());
+        long clamped = Math.max(props.getFloorMs(), Math.min(props.getCeilingMs(), adaptive));
+
+        log.debug("[TCP][TIMEOUT] ampId={} opcode={} p{}={}ms -> timeout={}ms",
+                ampId, opcode, props.getPercentile(), p.getAsLong() / 1_000_000, clamped);
+        return clamped;
+    }
+
+    private long defaultMs(AmpOpcode opcode) {
+        return switch (opcode) {
+            case AMP_STATUS_REQUEST -> props.getStatusMs();
+            case AMP_CONTROL -> props.getControlMs();
+            case PLAY_INDEX_PREDEFINED -> props.getIndexMs();
+            case STREAM_TYPE -> props.getStreamMs();
+            case LOG_REQUEST -> props.getLogMs();
+            default -> props.getControlMs();
+        };
+    }
+}
@@ -0,0 +1,139 @@
+package com.nptechon.smartamp.tcp.server.link;
+
+import com.nptechon.smartamp.global.config.CircuitBreakerProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 앰프별 circuit breaker
+ *
+ * CLOSED    : 정상. 연속 timeout 이 failureThreshold 에 도달하면 OPEN
+ * OPEN      : 요청을 링크에 보내지 않고 즉시 실패. openMs 경과 후 HALF_OPEN
+ * HALF_OPEN : probe 요청 1건만 통과. 성공하면 CLOSED, timeout 이면 다시 OPEN
+ *
+ * timeout 마다 채널을 끊으면 register/ACK/heartbeat 재설정이 반복되므로
+ * 연속 실패가 closeChannelAfterFailures 에 도달했을 때만 close 를 요청한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeviceCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final CircuitBreakerProperties props;
+
+    private final ConcurrentHashMap<Integer, Entry> entries = new ConcurrentHashMap<>();
+
+    private static final class Entry {
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAtMs;
+        private boolean probeInFlight;
+    }
+
+    private Entry entry(int ampId) {
+        return entries.computeIfAbsent(ampId, k -> new Entry());
+    }
+
+    /**
+     * 요청을 링크로 보내도 되는지 확인
+     * - HALF_OPEN 에서 true 를 받은 호출은 probe 이므로 반드시 onSuccess/onFailure/release 중 하나로 끝내야 한다
+     */
+    public boolean tryAcquire(int ampId) {
+        if (!props.isEnabled()) return true;
+
+        Entry e = entry(ampId);
+        synchronized (e) {
+            switch (e.state) {
+                case CLOSED -> {
+                    return true;
+                }
+                case OPEN -> {
+                    if (System.currentTimeMillis() - e.openedAtMs < props.getOpenMs()) {
+                        return false;
+                    }
+                    e.state = State.HALF_OPEN;
+                    e.probeInFlight = true;
+                    log.info("[TCP][BREAKER] OPEN -> HALF_OPEN (probe) ampId={}", ampId);
+                    return true;
+                }
+                default -> {
+                    if (e.probeInFlight) return false;
+                    e.probeInFlight = true;
+                    return true;
+                }
+            }
+        }
+    }
+
+    public void onSuccess(int ampId) {
+        Entry e = entries.get(ampId);
+        if (e == null) return;
+        synchronized (e) {
+            if (e.state != State.CLOSED) {
+                log.info("[TCP][BREAKER] {} -> CLOSED ampId={}", e.state, ampId);
+            }
+            e.state = State.CLOSED;
+            e.consecutiveFailures = 0;
+            e.probeInFlight = false;
+        }
+    }
+
+    /**
+     * timeout 실패 기록
+     * @return true 면 호출 측에서 채널을 close 해야 함
+     */
+    public boolean onFailure(int ampId) {
+        if (!props.isEnabled()) return false;
+
+        Entry e = entry(ampId);
+        synchronized (e) {
+            e.consecutiveFailures++;
+            e.probeInFlight = false;
+
+            if (e.state == State.HALF_OPEN
+                    || (e.state == State.CLOSED && e.consecutiveFailures >= props.getFailureThreshold())) {
+                log.warn("[TCP][BREAKER] {} -> OPEN ampId={} consecutiveFailures={}",
+                        e.state, ampId, e.consecutiveFailures);
+                e.state = State.OPEN;
+                e.openedAtMs = System.currentTimeMillis();
+            }
+
+            if (e.consecutiveFailures >= props.getCloseChannelAfterFailures()) {
+                // close 후 재연결(register)되면 reset 됨
+                e.consecutiveFailures = 0;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    // timeout 이외의 사유로 끝난 probe 반납
+    public void release(int ampId) {
+        Entry e = entries.get(ampId);
+        if (e == null) return;
+        synchronized (e) {
+            e.probeInFlight = false;
+        }
+    }
+
+    // 앰프 재등록(0x01) 시 초기화
+    public void reset(int ampId) {
+        Entry prev = entries.remove(ampId);
+        if (prev != null) {
+            log.info("[TCP][BREAKER] reset ampId={}", ampId);
+        }
+    }
+
+    public State state(int ampId) {
+        Entry e = entries.get(ampId);
+        if (e == null) return State.CLOSED;
+        synchronized (e) {
+            return e.state;
+        }
+    }
+}
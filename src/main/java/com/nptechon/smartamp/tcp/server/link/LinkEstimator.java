@@ -0,0 +1,201 @@
+package com.nptechon.smartamp.tcp.server.link;
+
+import com.nptechon.smartamp.link.dto.LinkStatsDto;
+import com.nptechon.smartamp.tcp.protocol.AmpOpcode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 앰프별 링크 품질 추정
+ * - throughput: FileSender FS 시작 ~ FE 뒤 0x06 응답까지 (앰프 도착 기준, pacing / 응답 복귀 구간 제외)
+ * - RTT: CommandSender 요청 전송 ~ 응답 complete 까지 (opcode 별)
+ * - 각각 EWMA + 최근 WINDOW 개 샘플의 percentile 을 유지
+ */
+@Slf4j
+@Component
+public class LinkEstimator {
+
+    private static final double ALPHA = 0.3;
+    private static final int WINDOW = 64;
+
+    private final ConcurrentHashMap<Integer, Stats> stats = new ConcurrentHashMap<>();
+
+    // 최근 샘플 ring buffer
+    private static final class Window {
+        private final long[] ring = new long[WINDOW];
+        private int size;
+        private int next;
+
+        void add(long v) {
+            ring[next] = v;
+            next = (next + 1) % WINDOW;
+            if (size < WINDOW) size++;
+        }
+
+        // p: 0~100
+        long percentile(double p) {
+            if (size == 0) return 0;
+            long[] copy = Arrays.copyOf(ring, size);
+            Arrays.sort(copy);
+            int idx = (int) Math.ceil(p / 100.0 * size) - 1;
+            return copy[Math.max(0, Math.min(size - 1, idx))];
+        }
+    }
+
+    private static final class Stats {
+        private double throughputEwma; // bytes/sec
+        private final Window throughput = new Window();
+        private long transfers;
+
+        private double rttEwmaNs;
+        private final Window rtt = new Window();
+        private final Map<AmpOpcode, Window> rttByOpcode = new EnumMap<>(AmpOpcode.class);
+        private long rttSamples;
+        private long timeouts;
+
+        private long updatedAtMs;
+    }
+
+    private Stats stats(int ampId) {
+        return stats.computeIfAbsent(ampId, k -> new Stats());
+    }
+
+    /**
+     * @param bytes 전송한 바이트 수 (프레임 헤더 포함)
+     * @param nanos FS 시작부터 앰프 도착 확인까지 (pacing sleep, 응답 복귀 RTT/2 제외)
+     */
+    public void recordTransfer(int ampId, long bytes, long nanos) {
+        if (bytes <= 0 || nanos <= 0) return;
+
+        double bps = bytes * 1_000_000_000.0 / nanos;
+        Stats s = stats(ampId);
+        synchronized (s) {
+            s.throughputEwma = (s.transfers == 0) ? bps : (ALPHA * bps + (1 - ALPHA) * s.throughputEwma);
+            s.throughput.add((long) bps);
+            s.transfers++;
+            s.updatedAtMs = System.currentTimeMillis();
+            log.info("[LINK] transfer ampId={} bytes={} tookMs={} sample={}B/s ewma={}B/s",
+                    ampId, bytes, nanos / 1_000_000, (long) bps, (long) s.throughputEwma);
+        }
+    }
+
+    // 요청 → 응답 왕복 시간
+    public void recordRtt(int ampId, AmpOpcode opcode, long nanos) {
+        if (nanos <= 0) return;
+
+        Stats s = stats(ampId);
+        synchronized (s) {
+            s.rttEwmaNs = (s.rttSamples == 0) ? nanos : (ALPHA * nanos + (1 - ALPHA) * s.rttEwmaNs);
+            s.rtt.add(nanos);
+            s.rttByOpcode.computeIfAbsent(opcode, k -> new Window()).add(nanos);
+            s.rttSamples++;
+            s.updatedAtMs = System.currentTimeMillis();
+        }
+        log.debug("[LINK] rtt ampId={} opcode={} ms={}", ampId, opcode, nanos / 1_000_000);
+    }
+
+    public void recordTimeout(int ampId, AmpOpcode opcode) {
+        Stats s = stats(ampId);
+        synchronized (s) {
+            s.timeouts++;
+            s.updatedAtMs = System.currentTimeMillis();
+        }
+        log.debug("[LINK] timeout ampId={} opcode={}", ampId, opcode);
+    }
+
+    public OptionalDouble throughputBytesPerSec(int ampId) {
+        Stats s = stats.get(ampId);
+        if (s == null) return OptionalDouble.empty();
+        synchronized (s) {
+            return (s.transfers == 0) ? OptionalDouble.empty() : OptionalDouble.of(s.throughputEwma);
+        }
+    }
+
+    /**
+     * bitrate 선택용 보수적 throughput: min(EWMA, 최근 샘플 p50)
+     * @param minSamples 전송 샘플이 이보다 적으면 empty
+     */
+    public OptionalDouble conservativeThroughputBytesPerSec(int ampId, int minSamples) {
+        Stats s = stats.get(ampId);
+        if (s == null) return OptionalDouble.empty();
+        synchronized (s) {
+            if (s.transfers < Math.max(1, minSamples)) return OptionalDouble.empty();
+            return OptionalDouble.of(Math.min(s.throughputEwma, s.throughput.percentile(50)));
+        }
+    }
+
+    public OptionalLong rttEwmaNanos(int ampId) {
+        Stats s = stats.get(ampId);
+        if (s == null) return OptionalLong.empty();
+        synchronized (s) {
+            return (s.rttSamples == 0) ? OptionalLong.empty() : OptionalLong.of((long) s.rttEwmaNs);
+        }
+    }
+
+    /**
+     * opcode 별 RTT percentile
+     * @param minSamples 샘플이 이보다 적으면 empty
+     */
+    public OptionalLong rttPercentileNanos(int ampId, AmpOpcode opcode, double p, int minSamples) {
+        Stats s = stats.get(ampId);
+        if (s == null) return OptionalLong.empty();
+        synchronized (s) {
+            Window w = s.rttByOpcode.get(opcode);
+            if (w == null || w.size < Math.max(1, minSamples)) return OptionalLong.empty();
+            return OptionalLong.of(w.percentile(p));
+        }
+    }
+
+    public LinkStatsDto snapshot(int ampId) {
+        Stats s = stats.get(ampId);
+        if (s == null) return null;
+
+        synchronized (s) {
+            Map<String, LinkStatsDto.OpcodeRtt> byOpcode = new LinkedHashMap<>();
+            s.rttByOpcode.forEach((op, w) -> byOpcode.put(op.name(), new LinkStatsDto.OpcodeRtt(
+                    w.size,
+                    toMs(w.percentile(50)),
+                    toMs(w.percentile(99))
+            )));
+
+            return new LinkStatsDto(
+                    ampId,
+                    (long) s.throughputEwma,
+                    s.throughput.percentile(10),
+                    s.throughput.percentile(50),
+                    s.transfers,
+                    toMs((long) s.rttEwmaNs),
+                    toMs(s.rtt.percentile(50)),
+                    toMs(s.rtt.percentile(90)),
+                    toMs(s.rtt.percentile(99)),
+                    s.rttSamples,
+                    s.timeouts,
+                    byOpcode,
+                    s.updatedAtMs
+            );
+        }
+    }
+
+    public List<LinkStatsDto> snapshotAll() {
+        List<LinkStatsDto> out = new ArrayList<>();
+        stats.keySet().stream().sorted().forEach(id -> {
+            LinkStatsDto dto = snapshot(id);
+            if (dto != null) out.add(dto);
+        });
+        return out;
+    }
+
+    private static double toMs(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0; // 소수 2자리
+    }
+}
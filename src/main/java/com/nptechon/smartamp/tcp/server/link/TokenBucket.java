@@ -0,0 +1,37 @@
+package com.nptechon.smartamp.tcp.server.link;
+
+/**
+ * 단순 token bucket (초당 ratePerSec 보충, 최대 burst 개)
+ */
+public class TokenBucket {
+
+    private final double ratePerMs;
+    private final double burst;
+
+    private double tokens;
+    private long lastRefillNs;
+    private volatile long lastUsedMs;
+
+    public TokenBucket(double ratePerSec, int burst) {
+        this.ratePerMs = ratePerSec / 1000.0;
+        this.burst = Math.max(1, burst);
+        this.tokens = this.burst;
+        this.lastRefillNs = System.nanoTime();
+        this.lastUsedMs = System.currentTimeMillis();
+    }
+
+    public synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNs) / 1_000_000.0 * ratePerMs);
+        lastRefillNs = now;
+        lastUsedMs = System.currentTimeMillis();
+
+        if (tokens < 1.0) return false;
+        tokens -= 1.0;
+        return true;
+    }
+
+    public long getLastUsedMs() {
+        return lastUsedMs;
+    }
+}
@@ -7,6 +7,10 @@ import com.nptechon.smartamp.tcp.protocol.AmpOpcode;
 import com.nptechon.smartamp.tcp.protocol.DateTime7;
 import com.nptechon.smartamp.tcp.protocol.payload.AmpPower;
 import com.nptechon.smartamp.tcp.protocol.payload.StreamType;
+import com.nptechon.smartamp.tcp.server.link.CommandTimeoutPolicy;
+import com.nptechon.smartamp.tcp.server.link.DeviceCircuitBreaker;
+import com.nptechon.smartamp.tcp.server.link.LinkEstimator;
+import com.nptechon.smartamp.tcp.server.session.DeviceStateRegistry;
 import com.nptechon.smartamp.tcp.server.session.TcpSessionManager;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
@@ -28,6 +32,13 @@ import java.util.concurrent.CompletionException;
 public class CommandSender {
 
     private final TcpSessionManager sessionManager;
+    private final LinkEstimator linkEstimator;
+    private final CommandTimeoutPolicy timeoutPolicy;
+    private final DeviceCircuitBreaker circuitBreaker;
+    private final DeviceStateRegistry deviceState;
+
+    // 도착 확인 0x06 은 전송 중인 파일 데이터 뒤에 줄을 서므로 일반 timeout 보다 길게
+    private static final long DELIVERY_PROBE_TIMEOUT_MS = 30_000;
 
     private final Map<Integer, CompletableFuture<Boolean>> pendingStatus = new ConcurrentHashMap<>();
     private final Map<Integer, CompletableFuture<Boolean>> pendingControl = new ConcurrentHashMap<>();
@@ -52,6 +63,18 @@ public class CommandSender {
         return false;
     }
 
+    // orTimeout(TimeoutException) + sync 대기 timeout cleanup(DEVICE_TIMEOUT) 둘 다 timeout 으로 본다
+    private static boolean isTimeoutFailure(Throwable t) {
+        if (isTimeoutCause(t)) return true;
+        Throwable c = t;
+        while (c != null) {
+            if (c instanceof CustomException ce && ce.getErrorCode() == ErrorCode.DEVICE_TIMEOUT) return true;
+            if (c.getCause() == c) break;
+            c = c.getCause();
+        }
+        return false;
+    }
+
     private static void throwIfTimeout(Throwable t, String logTag, int ampId) {
         if (isTimeoutCause(t)) {
             log.warn("{} timeout(unwrap) ampId={} cause={}", logTag, ampId, t.toString());
@@ -59,6 +82,44 @@ public class CommandSender {
         }
     }
 
+    // 응답 왕복 시간 / timeout 기록 (LinkEstimator + circuit breaker)
+    private void recordOutcome(int ampId, AmpOpcode opcode, long sentNs, Throwable ex) {
+        if (ex == null) {
+            linkEstimator.recordRtt(ampId, opcode, System.nanoTime() - sentNs);
+            circuitBreaker.onSuccess(ampId);
+        } else if (isTimeoutFailure(ex)) {
+            linkEstimator.recordTimeout(ampId, opcode);
+            if (circuitBreaker.onFailure(ampId)) {
+                // 연속 timeout 누적 → 그때만 채널 끊어서 상태 리셋
+                log.warn("[TCP][BREAKER] consecutive timeouts -> close session ampId={}", ampId);
+                sessionManager.close(ampId);
+            }
+        } else {
+            circuitBreaker.release(ampId);
+        }
+    }
+
+    // OPEN 상태면 링크에 보내지 않고 즉시 DEVICE_TIMEOUT
+    private <T> boolean rejectIfOpen(Map<Integer, CompletableFuture<T>> pending, int ampId,
+                                     CompletableFuture<T> future, String tag) {
+        if (circuitBreaker.tryAcquire(ampId)) return false;
+
+        pending.remove(ampId, future);
+        log.warn("{} circuit open -> fail fast ampId={}", tag, ampId);
+        future.completeExceptionally(new CustomException(ErrorCode.DEVICE_TIMEOUT));
+        return true;
+    }
+
+    // 앰프 재등록(0x01) 시 호출
+    public void onDeviceRegistered(int ampId) {
+        circuitBreaker.reset(ampId);
+    }
+
+    // 방송 시작(0x03 / 0x04) 응답 대기 중인지
+    public boolean isBroadcastPending(int ampId) {
+        return pendingBroadcast.containsKey(ampId) || pendingStream.containsKey(ampId);
+    }
+
     // =========================
     // pending registration helper (race-safe)
     //
@@ -99,18 +160,18 @@ public class CommandSender {
      */
     public boolean getStatus(int ampId) {
         try {
-            boolean result = getStatusAsync(ampId).get(5, TimeUnit.SECONDS);
+            long timeoutMs = timeoutPolicy.timeoutMs(ampId, AmpOpcode.AMP_STATUS_REQUEST);
+            boolean result = getStatusAsync(ampId).get(timeoutMs, TimeUnit.MILLISECONDS);
             log.info("[TCP][STATUS] response sync ampId={} isOn={}", ampId, result);
             return result;
         } catch (TimeoutException e) {
             log.warn("[TCP][STATUS] timeout ampId={}", ampId);
             // 즉시 cleanup (orTimeout 기다리지 않기)
-            CompletableFuture<Boolean> f = pendingControl.get(ampId);
-            if (f != null && pendingControl.remove(ampId, f)) {
+            // 채널 close 는 circuit breaker 가 연속 실패 기준으로 판단 (recordOutcome)
+            CompletableFuture<Boolean> f = pendingStatus.get(ampId);
+            if (f != null && pendingStatus.remove(ampId, f)) {
                 f.completeExceptionally(new CustomException(ErrorCode.DEVICE_TIMEOUT));
             }
-            // 채널도 끊어서 상태 리셋
-            sessionManager.close(ampId);
             throw new CustomException(ErrorCode.DEVICE_TIMEOUT);
         } catch (ExecutionException e) {
             // orTimeout 에서 완료된 TimeoutException 도 여기로 들어올 수 있음
@@ -137,6 +198,21 @@ public class CommandSender {
 
 
     public CompletableFuture<Boolean> getStatusAsync(int ampId) {
+        return statusAsync(ampId, false);
+    }
+
+    /**
+     * 파일 전송 직후 도착 확인용 0x06
+     * - TCP 는 순서를 보장하므로 응답이 왔다면 앞서 보낸 FS/FD/FE 도 앰프에 도착한 것
+     * - 앞에 쌓인 데이터만큼 늦게 오므로 RTT / timeout 통계에는 넣지 않는다
+     * - 이미 대기 중인 상태 요청은 전송 전에 보낸 것이라 도착 확인이 안 됨 → null
+     */
+    public CompletableFuture<Boolean> probeDeliveryAsync(int ampId) {
+        if (pendingStatus.containsKey(ampId)) return null;
+        return statusAsync(ampId, true);
+    }
+
+    private CompletableFuture<Boolean> statusAsync(int ampId, boolean deliveryProbe) {
         // 1) 중복 요청 방지(선택)
         CompletableFuture<Boolean> fresh = new CompletableFuture<>();
         CompletableFuture<Boolean> future = registerPending(pendingStatus, ampId, fresh, "[TCP][STATUS]");
@@ -151,6 +227,8 @@ public class CommandSender {
             return future;
         }
 
+        if (rejectIfOpen(pendingStatus, ampId, future, "[TCP][STATUS]")) return future;
+
         // 3) 0x06 패킷 전송 (payload length 0)
         byte[] dt7 = DateTime7.now();
         byte[] payload = new byte[0];   // payload 없음
@@ -162,6 +240,7 @@ public class CommandSender {
                 payload
         );
 
+        long sentNs = System.nanoTime();
         log.info("---> [TCP][STATUS] send packet ampId={} opcode=0x06", ampId);
         channel.writeAndFlush(packet)
                 .addListener(f -> {
@@ -176,10 +255,16 @@ public class CommandSender {
                 });
 
         // 4) 타임아웃 처리
-        future.orTimeout(5, TimeUnit.SECONDS)
+        long timeoutMs = deliveryProbe
+                ? DELIVERY_PROBE_TIMEOUT_MS
+                : timeoutPolicy.timeoutMs(ampId, AmpOpcode.AMP_STATUS_REQUEST);
+        future.orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
                 .whenComplete((r, ex) -> {
                     // (키,값) remove로 "내 future"만 제거
                     pendingStatus.remove(ampId, future);
+                    if (!deliveryProbe) recordOutcome(ampId, AmpOpcode.AMP_STATUS_REQUEST, sentNs, ex);
+                    else if (ex == null) circuitBreaker.onSuccess(ampId);
+                    else circuitBreaker.release(ampId);
                     if (ex != null) log.warn("[TCP][STATUS] future completed exceptionally ampId={} ex={}", ampId, ex.toString());
                     else log.debug("[TCP][STATUS] future completed ampId={} isOn={}", ampId, r);
                 });
@@ -219,18 +304,18 @@ public class CommandSender {
 
             // [API 레벨] 동기 호출.. 비동기 요청 sendPowerAsync()를 호출하고 .get()으로 응답이 올 때까지 대기(블로킹)함
             // future.get() --> 현재 스레드가 멈춤(block)
-            boolean result = sendPowerAsync(ampId, power).get(3, TimeUnit.SECONDS);
+            long timeoutMs = timeoutPolicy.timeoutMs(ampId, AmpOpcode.AMP_CONTROL);
+            boolean result = sendPowerAsync(ampId, power).get(timeoutMs, TimeUnit.MILLISECONDS);
             log.info("[TCP][CONTROL] response sync ampId={} isOn={}", ampId, result);
             return result;
         } catch (TimeoutException e) {
             log.warn("[TCP][CONTROL] timeout ampId={} power={}", ampId, power);
             // 즉시 cleanup (orTimeout 기다리지 않기)
+            // 채널 close 는 circuit breaker 가 연속 실패 기준으로 판단 (recordOutcome)
             CompletableFuture<Boolean> f = pendingControl.get(ampId);
             if (f != null && pendingControl.remove(ampId, f)) {
                 f.completeExceptionally(new CustomException(ErrorCode.DEVICE_TIMEOUT));
             }
-            // 채널도 끊어서 상태 리셋
-            sessionManager.close(ampId);
             throw new CustomException(ErrorCode.DEVICE_TIMEOUT);
         } catch (ExecutionException e) {
             // orTimeout 에서 발생한 timeout 도 DEVICE_TIMEOUT 으로
@@ -271,6 +356,8 @@ public class CommandSender {
             return future;
         }
 
+        if (rejectIfOpen(pendingControl, ampId, future, "[TCP][CONTROL]")) return future;
+
         // payload 값 생성 - ON(1), OFF(0)
         byte[] payload = new byte[] { power.getValue() };
 
@@ -283,6 +370,7 @@ public class CommandSender {
                 payload
         );
 
+        long sentNs = System.nanoTime();
         log.info("---> [TCP][CONTROL] send packet ampId={} opcode=0x02 payload={}", ampId, power.getValue());
 
         // 앰프로 패킷 전송
@@ -297,9 +385,10 @@ public class CommandSender {
                     }
                 });
 
-        future.orTimeout(3, TimeUnit.SECONDS)
+        future.orTimeout(timeoutPolicy.timeoutMs(ampId, AmpOpcode.AMP_CONTROL), TimeUnit.MILLISECONDS)
                 .whenComplete((r, ex) -> {
                     pendingControl.remove(ampId, future);
+                    recordOutcome(ampId, AmpOpcode.AMP_CONTROL, sentNs, ex);
                     if (ex != null) log.warn("[TCP][CONTROL] future completed exceptionally ampId={} ex={}", ampId, ex.toString());
                     else log.debug("[TCP][CONTROL] future completed ampId={} isOn={}", ampId, r);
                 });
@@ -337,18 +426,18 @@ public class CommandSender {
     public boolean sendIndex(int ampId, int index, int repeat) {
         try {
             log.info("[TCP][BROADCAST] request sync ampId={} index={} repeat={}", ampId, index, repeat);
-            boolean result = sendIndexAsync(ampId, index, repeat).get(3, TimeUnit.SECONDS);
+            long timeoutMs = timeoutPolicy.timeoutMs(ampId, AmpOpcode.PLAY_INDEX_PREDEFINED);
+            boolean result = sendIndexAsync(ampId, index, repeat).get(timeoutMs, TimeUnit.MILLISECONDS);
             log.info("[TCP][BROADCAST] response sync ampId={} ok={}", ampId, result);
             return result;
         } catch (TimeoutException e) {
             log.warn("[TCP][BROADCAST] timeout ampId={} index={} repeat={}", ampId, index, repeat);
             // 즉시 cleanup (orTimeout 기다리지 않기)
-            CompletableFuture<Boolean> f = pendingControl.get(ampId);
-            if (f != null && pendingControl.remove(ampId, f)) {
+            // 채널 close 는 circuit breaker 가 연속 실패 기준으로 판단 (recordOutcome)
+            CompletableFuture<Boolean> f = pendingBroadcast.get(ampId);
+            if (f != null && pendingBroadcast.remove(ampId, f)) {
                 f.completeExceptionally(new CustomException(ErrorCode.DEVICE_TIMEOUT));
             }
-            // 채널도 끊어서 상태 리셋
-            sessionManager.close(ampId);
             throw new CustomException(ErrorCode.DEVICE_TIMEOUT);
         } catch (ExecutionException e) {
             throwIfTimeout(e, "[TCP][BROADCAST]", ampId);
@@ -372,11 +461,17 @@ public class CommandSender {
     }
 
     public CompletableFuture<Boolean> sendIndexAsync(int ampId, int index, int repeat) {
+        return sendIndexAsync(sessionManager.get(ampId), ampId, index, repeat);
+    }
+
+    /**
+     * 채널을 이미 알고 있는 경우 (그룹 방송: ChannelGroup 순회 시 registry 조회 생략)
+     */
+    public CompletableFuture<Boolean> sendIndexAsync(Channel channel, int ampId, int index, int repeat) {
         CompletableFuture<Boolean> fresh = new CompletableFuture<>();
         CompletableFuture<Boolean> future = registerPending(pendingBroadcast, ampId, fresh, "[TCP][BROADCAST]");
         if (future != fresh) return future;
 
-        Channel channel = sessionManager.get(ampId);
         if (channel == null || !channel.isActive()) {
             pendingBroadcast.remove(ampId, future);
             log.warn("[TCP][BROADCAST] offline ampId={} channel={}", ampId, channel);
@@ -384,6 +479,18 @@ public class CommandSender {
             return future;
         }
 
+        // 로컬 상태로 이미 방송/전송 중이면 링크에 보내지 않고 바로 Busy
+        if (!deviceState.tryBeginHandshake(ampId)) {
+            pendingBroadcast.remove(ampId, future);
+            future.complete(false);
+            return future;
+        }
+
+        if (rejectIfOpen(pendingBroadcast, ampId, future, "[TCP][BROADCAST]")) {
+            deviceState.release(ampId);
+            return future;
+        }
+
         byte[] payload = new byte[] {
                 (byte) index,
                 (byte) repeat   // 1~5, 0xFF(무한 반복)
@@ -397,6 +504,7 @@ public class CommandSender {
                 payload
         );
 
+        long sentNs = System.nanoTime();
         log.info("---> [TCP][BROADCAST] send packet ampId={} opcode=0x03 index={} repeat={}", ampId, index, repeat);
         channel.writeAndFlush(packet)
                 .addListener(f -> {
@@ -409,9 +517,13 @@ public class CommandSender {
                     }
                 });
 
-        future.orTimeout(3, TimeUnit.SECONDS)
+        future.orTimeout(timeoutPolicy.timeoutMs(ampId, AmpOpcode.PLAY_INDEX_PREDEFINED), TimeUnit.MILLISECONDS)
                 .whenComplete((r, ex) -> {
                     pendingBroadcast.remove(ampId, future);
+                    recordOutcome(ampId, AmpOpcode.PLAY_INDEX_PREDEFINED, sentNs, ex);
+                    if (ex != null) deviceState.release(ampId);
+                    else if (r) deviceState.indexStarted(ampId, repeat);
+                    else deviceState.deviceBusy(ampId);
                     if (ex != null) log.warn("[TCP][BROADCAST] future completed exceptionally ampId={} ex={}", ampId, ex.toString());
                     else log.debug("[TCP][BROADCAST] future completed ampId={} ok={}", ampId, r);
                 });
@@ -445,18 +557,18 @@ public class CommandSender {
     public boolean sendStreamType(int ampId, StreamType type, int repeat) {
         try {
             log.info("[TCP][STREAM] request sync ampId={} type={} repeat={}", ampId, type, repeat);
-            boolean result = sendStreamTypeAsync(ampId, type, repeat).get(3, TimeUnit.SECONDS);
+            long timeoutMs = timeoutPolicy.timeoutMs(ampId, AmpOpcode.STREAM_TYPE);
+            boolean result = sendStreamTypeAsync(ampId, type, repeat).get(timeoutMs, TimeUnit.MILLISECONDS);
             log.info("[TCP][STREAM] response sync ampId={} ok={}", ampId, result);
             return result;
         } catch (TimeoutException e) {
             log.warn("[TCP][STREAM] timeout ampId={} type={} repeat={}", ampId, type, repeat);
             // 즉시 cleanup (orTimeout 기다리지 않기)
-            CompletableFuture<Boolean> f = pendingControl.get(ampId);
-            if (f != null && pendingControl.remove(ampId, f)) {
+            // 채널 close 는 circuit breaker 가 연속 실패 기준으로 판단 (recordOutcome)
+            CompletableFuture<Boolean> f = pendingStream.get(ampId);
+            if (f != null && pendingStream.remove(ampId, f)) {
                 f.completeExceptionally(new CustomException(ErrorCode.DEVICE_TIMEOUT));
             }
-            // 채널도 끊어서 상태 리셋
-            sessionManager.close(ampId);
             throw new CustomException(ErrorCode.DEVICE_TIMEOUT);
         } catch (ExecutionException e) {
             throwIfTimeout(e, "[TCP][STREAM]", ampId);
@@ -480,11 +592,14 @@ public class CommandSender {
     }
 
     public CompletableFuture<Boolean> sendStreamTypeAsync(int ampId, StreamType type, int repeat) {
+        return sendStreamTypeAsync(sessionManager.get(ampId), ampId, type, repeat);
+    }
+
+    public CompletableFuture<Boolean> sendStreamTypeAsync(Channel channel, int ampId, StreamType type, int repeat) {
         CompletableFuture<Boolean> fresh = new CompletableFuture<>();
         CompletableFuture<Boolean> future = registerPending(pendingStream, ampId, fresh, "[TCP][STREAM]");
         if (future != fresh) return future;
 
-        Channel channel = sessionManager.get(ampId);
         if (channel == null || !channel.isActive()) {
             pendingStream.remove(ampId, future);
             log.warn("[TCP][STREAM] offline ampId={} channel={}", ampId, channel);
@@ -492,6 +607,18 @@ public class CommandSender {
             return future;
         }
 
+        // 로컬 상태로 이미 방송/전송 중이면 링크에 보내지 않고 바로 Busy
+        if (!deviceState.tryBeginHandshake(ampId)) {
+            pendingStream.remove(ampId, future);
+            future.complete(false);
+            return future;
+        }
+
+        if (rejectIfOpen(pendingStream, ampId, future, "[TCP][STREAM]")) {
+            deviceState.release(ampId);
+            return future;
+        }
+
         byte[] payload = new byte[] {
                 type.code(),
                 (byte) repeat
@@ -505,6 +632,7 @@ public class CommandSender {
                 payload
         );
 
+        long sentNs = System.nanoTime();
         log.info("---> [TCP][STREAM] send packet ampId={} opcode=0x04 type={} repeat={}", ampId, type, repeat);
 
         channel.writeAndFlush(packet)
@@ -518,9 +646,13 @@ public class CommandSender {
                     }
                 });
 
-        future.orTimeout(3, TimeUnit.SECONDS)
+        future.orTimeout(timeoutPolicy.timeoutMs(ampId, AmpOpcode.STREAM_TYPE), TimeUnit.MILLISECONDS)
                 .whenComplete((r, ex) -> {
                     pendingStream.remove(ampId, future);
+                    recordOutcome(ampId, AmpOpcode.STREAM_TYPE, sentNs, ex);
+                    if (ex != null) deviceState.release(ampId);
+                    else if (r) deviceState.awaitTransfer(ampId);
+                    else deviceState.deviceBusy(ampId);
                     if (ex != null) log.warn("[TCP][STREAM] future completed exceptionally ampId={} ex={}", ampId, ex.toString());
                     else log.debug("[TCP][STREAM] future completed ampId={} ok={}", ampId, r);
                 });
@@ -557,7 +689,8 @@ public class CommandSender {
         try {
             log.info("[TCP][LOG] request sync ampId={}", ampId);
 
-            byte[] payload = getLogsAsync(ampId).get(6, TimeUnit.SECONDS);
+            long timeoutMs = timeoutPolicy.timeoutMs(ampId, AmpOpcode.LOG_REQUEST);
+            byte[] payload = getLogsAsync(ampId).get(timeoutMs, TimeUnit.MILLISECONDS);
 
             log.info("[TCP][LOG] response sync ampId={} payloadSize={}",
                     ampId, payload == null ? 0 : payload.length);
@@ -565,19 +698,18 @@ public class CommandSender {
             return payload;
 
         } catch (TimeoutException e) {
-            log.warn("[TCP][LOG] timeout ampId={} -> close session", ampId);
+            log.warn("[TCP][LOG] timeout ampId={}", ampId);
             // 즉시 cleanup (orTimeout 기다리지 않기)
-            CompletableFuture<Boolean> f = pendingControl.get(ampId);
-            if (f != null && pendingControl.remove(ampId, f)) {
+            // 채널 close 는 circuit breaker 가 연속 실패 기준으로 판단 (recordOutcome)
+            CompletableFuture<byte[]> f = pendingLog.get(ampId);
+            if (f != null && pendingLog.remove(ampId, f)) {
                 f.completeExceptionally(new CustomException(ErrorCode.DEVICE_TIMEOUT));
             }
-            // 채널도 끊어서 상태 리셋
-            sessionManager.close(ampId);
             throw new CustomException(ErrorCode.DEVICE_TIMEOUT);
         } catch (ExecutionException e) {
             // orTimeout에서 발생한 timeout도 DEVICE_TIMEOUT으로
             if (isTimeoutCause(e)) {
-                log.warn("[TCP][LOG] timeout(unwrap) ampId={} -> close session cause={}", ampId, e.toString());
+                log.warn("[TCP][LOG] timeout(unwrap) ampId={} cause={}", ampId, e.toString());
                 throw new CustomException(ErrorCode.DEVICE_TIMEOUT);
             }
 
@@ -588,7 +720,7 @@ public class CommandSender {
 
         } catch (CompletionException e) {
             if (isTimeoutCause(e)) {
-                log.warn("[TCP][LOG] timeout(unwrap) ampId={} -> close session cause={}", ampId, e.toString());
+                log.warn("[TCP][LOG] timeout(unwrap) ampId={} cause={}", ampId, e.toString());
                 throw new CustomException(ErrorCode.DEVICE_TIMEOUT);
             }
 
@@ -608,6 +740,19 @@ public class CommandSender {
     }
 
     public CompletableFuture<byte[]> getLogsAsync(int ampId) {
+        return logsAsync(ampId, false);
+    }
+
+    /**
+     * 백그라운드 로그 수집용 0x05
+     * - 한가한 시간대에 몰아서 보내는 요청이라 응답 지연 / timeout 을 RTT, circuit breaker 통계에 넣지 않는다
+     *   (수집이 느려서 사용자 명령까지 차단되는 일 방지)
+     */
+    public CompletableFuture<byte[]> harvestLogsAsync(int ampId) {
+        return logsAsync(ampId, true);
+    }
+
+    private CompletableFuture<byte[]> logsAsync(int ampId, boolean background) {
 
         CompletableFuture<byte[]> fresh = new CompletableFuture<>();
         CompletableFuture<byte[]> future =
@@ -623,6 +768,8 @@ public class CommandSender {
             return future;
         }
 
+        if (rejectIfOpen(pendingLog, ampId, future, "[TCP][LOG]")) return future;
+
         // 0x05 패킷 전송 (payload 없음)
         byte[] dt7 = DateTime7.now();
         ByteBuf packet = CommandPacketCodec.encode(
@@ -633,6 +780,7 @@ public class CommandSender {
                 new byte[0]
         );
 
+        long sentNs = System.nanoTime();
         log.info("---> [TCP][LOG] send packet ampId={} opcode=0x05", ampId);
 
         channel.writeAndFlush(packet)
@@ -646,18 +794,16 @@ public class CommandSender {
                     }
                 });
 
-        future.orTimeout(6, TimeUnit.SECONDS)
+        future.orTimeout(timeoutPolicy.timeoutMs(ampId, AmpOpcode.LOG_REQUEST), TimeUnit.MILLISECONDS)
                 .whenComplete((r, ex) -> {
                     pendingLog.remove(ampId, future);
+                    if (!background) recordOutcome(ampId, AmpOpcode.LOG_REQUEST, sentNs, ex);
+                    else if (ex == null) circuitBreaker.onSuccess(ampId);
+                    else circuitBreaker.release(ampId);
 
                     if (ex != null) {
                         log.warn("[TCP][LOG] future completed exceptionally ampId={} ex={}",
                                 ampId, ex.toString());
-
-                        // timeout이면 세션 close로 누적 버퍼/동기 문제를 끊어버림
-                        if (isTimeoutCause(ex)) {
-                            log.warn("[TCP][LOG] timeout detected -> close session ampId={}", ampId);
-                        }
                     } else {
                         log.debug("[TCP][LOG] future completed ampId={} payloadSize={}",
                                 ampId, r == null ? 0 : r.length);
@@ -1,11 +1,21 @@
 package com.nptechon.smartamp.tcp.server.sender;
 
+import com.nptechon.smartamp.global.error.CustomException;
+import com.nptechon.smartamp.global.error.ErrorCode;
 import com.nptechon.smartamp.tcp.codec.FileFrameEncoder;
+import com.nptechon.smartamp.tcp.server.link.LinkEstimator;
+import com.nptechon.smartamp.tcp.server.session.DeviceStateRegistry;
 import com.nptechon.smartamp.tcp.server.session.TcpSessionManager;
 import com.nptechon.smartamp.tcp.util.HexDumpUtil;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.ChannelGroupFuture;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import io.netty.util.concurrent.Future;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -13,7 +23,12 @@ import org.springframework.stereotype.Component;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 @Slf4j
 @Component
@@ -22,7 +37,40 @@ public class FileSender {
 
     private static final int DATA = FileFrameEncoder.DATA_SIZE; // 508
 
+    // realtime 전송 시 프레임 간 간격
+    public static final int REALTIME_PACING_MS = 2;
+
     private final TcpSessionManager tcpSessionManager;
+    private final LinkEstimator linkEstimator;
+    private final CommandSender commandSender;
+
+    private final DeviceStateRegistry deviceState;
+
+    // 마지막 전송 종료 시각 (백그라운드 작업이 방송 중인 앰프를 피하도록)
+    private final Map<Integer, Long> lastTransferEndMs = new ConcurrentHashMap<>();
+
+    /**
+     * 512 프레임 파일 전송 (디스크 파일)
+     *
+     * @param formatCode 0x01=MP3 등
+     * @param realtime   true면 pacing(2ms)
+     */
+    public void sendMp3File(int ampId, Path mp3Path, byte formatCode, boolean realtime) throws IOException {
+        ensureConnected(ampId);
+
+        // 파일 로딩(기존 동작 유지: 메모리에 전체 로드)
+        byte[] fileBytes = Files.readAllBytes(mp3Path);
+        sendMp3(ampId, Unpooled.wrappedBuffer(fileBytes), mp3Path.getFileName().toString(), formatCode, realtime);
+    }
+
+    /**
+     * 512 프레임 파일 전송 (메모리 버퍼)
+     * - TTS 결과처럼 이미 메모리에 있는 오디오를 임시 파일 없이 바로 프레임으로 전송
+     */
+    public void sendMp3Bytes(int ampId, byte[] audio, String fileName, byte formatCode, boolean realtime) {
+        ensureConnected(ampId);
+        sendMp3(ampId, Unpooled.wrappedBuffer(audio), fileName, formatCode, realtime);
+    }
 
     /**
      * 512 프레임 파일 전송
@@ -30,93 +78,225 @@ public class FileSender {
      * - FD: 508B payload, seq(LE 2B)
      * - FE
      *
-     * @param formatCode 0x01=MP3 등
-     * @param realtime   true면 pacing(2ms)
+     * audio 의 소유권은 여기로 넘어오고, 전송 스레드가 끝날 때 release 한다
      */
-    public void sendMp3File(int ampId, Path mp3Path, byte formatCode, boolean realtime) throws IOException {
+    public void sendMp3(int ampId, ByteBuf audio, String fileName, byte formatCode, boolean realtime) {
         Channel ch = tcpSessionManager.get(ampId);
         if (ch == null || !ch.isActive()) {
+            audio.release();
             throw new IllegalStateException("AMP not connected: " + ampId);
         }
 
-        // 파일 로딩(기존 동작 유지: 메모리에 전체 로드)
-        byte[] fileBytes = Files.readAllBytes(mp3Path);
-        String fileName = mp3Path.getFileName().toString();
-        int totalSize = fileBytes.length;
+        // 같은 채널로 두 번째 전송 스레드가 붙지 않도록
+        if (!deviceState.tryBeginTransfer(ampId)) {
+            audio.release();
+            throw new CustomException(ErrorCode.DEVICE_BUSY, "이미 파일 전송 중입니다.");
+        }
 
-        int pacingMs = realtime ? 2 : 0;
+        transfer("ampId=" + ampId, Set.of(ampId), ch.alloc(), ch::writeAndFlush, audio, fileName, formatCode, realtime,
+                (wireBytes, startNs, pacingNs) -> recordDelivered(ampId, wireBytes, startNs, pacingNs));
+    }
+
+    /**
+     * 0x04 OK 후 보낼 오디오가 없을 때 FE 만 보내 앰프의 파일 수신 대기를 끝낸다
+     */
+    public void abortTransfer(int ampId) {
+        Channel ch = tcpSessionManager.get(ampId);
+        if (ch == null || !ch.isActive()) {
+            log.debug("[TX][FILE512][ABORT] ampId={} not connected -> skip FE", ampId);
+            return;
+        }
+        log.info("[TX][FILE512][ABORT] ampId={} send FE without audio", ampId);
+        ch.writeAndFlush(FileFrameEncoder.encodeEnd(ch.alloc())).addListener(done -> {
+            if (!done.isSuccess()) {
+                log.warn("[TX][FILE512][ABORT] ampId={} FE write failed cause={}", ampId, done.cause().toString());
+            }
+        });
+    }
+
+    /**
+     * 그룹용 abortTransfer: 0x04 를 수락한 멤버 채널 전체에 FE 한 번 write
+     */
+    public void abortGroupTransfer(String groupId, ChannelGroup targets) {
+        if (targets.isEmpty()) return;
+        log.info("[TX][FILE512][ABORT] group={} members={} send FE without audio", groupId, targets.size());
+        targets.writeAndFlush(FileFrameEncoder.encodeEnd(ByteBufAllocator.DEFAULT)).addListener(done -> {
+            if (!done.isSuccess()) {
+                log.warn("[TX][FILE512][ABORT] group={} FE write failed on some members cause={}",
+                        groupId, String.valueOf(done.cause()));
+            }
+        });
+    }
+
+    // FE 뒤에 0x06 을 보내 응답이 올 때까지를 전송 시간으로 본다 (소켓 버퍼에 넘긴 시점이 아니라 앰프 도착 기준)
+    private void recordDelivered(int ampId, long wireBytes, long startNs, long pacingNs) {
+        CompletableFuture<Boolean> probe = commandSender.probeDeliveryAsync(ampId);
+        if (probe == null) {
+            log.debug("[TX][FILE512] status already pending -> skip throughput sample ampId={}", ampId);
+            return;
+        }
+        probe.whenComplete((r, ex) -> {
+            if (ex != null) {
+                log.debug("[TX][FILE512] delivery probe failed ampId={} ex={}", ampId, ex.toString());
+                return;
+            }
+            // 응답이 돌아오는 구간(RTT/2)과 pacing sleep 은 링크 전송 시간이 아님
+            long returnNs = linkEstimator.rttEwmaNanos(ampId).orElse(0) / 2;
+            long nanos = System.nanoTime() - startNs - pacingNs - returnNs;
+            linkEstimator.recordTransfer(ampId, wireBytes, nanos);
+        });
+    }
+
+    // 전송 완료 콜백 (FE write 성공 시)
+    @FunctionalInterface
+    private interface TransferListener {
+        void onTransferred(long wireBytes, long startNs, long pacingNs);
+    }
+
+    /**
+     * 그룹 전송: FS/FD/FE 프레임은 앰프마다 같으므로 프레임당 한 번 만들어 ChannelGroup 에 한 번에 write
+     * - 가장 느린 멤버 기준으로 다음 프레임 진행 (ChannelGroupFuture)
+     */
+    public void sendMp3ToGroup(String groupId, ChannelGroup targets, Set<Integer> ampIds,
+                               byte[] audio, String fileName, byte formatCode, boolean realtime) {
+        // 이미 전송 중인 멤버는 이번 전송에서 제외
+        Set<Integer> begun = new LinkedHashSet<>();
+        for (int ampId : ampIds) {
+            if (deviceState.tryBeginTransfer(ampId)) begun.add(ampId);
+        }
+        targets.removeIf(ch -> !begun.contains(tcpSessionManager.getBoundDeviceId(ch)));
+
+        if (targets.isEmpty()) {
+            begun.forEach(deviceState::endTransfer);
+            throw new IllegalStateException("no connected amp in group: " + groupId);
+        }
+
+        transfer("group=" + groupId + " members=" + begun, begun, ByteBufAllocator.DEFAULT,
+                frame -> writeToGroup(groupId, targets, frame),
+                Unpooled.wrappedBuffer(audio), fileName, formatCode, realtime, null);
+    }
+
+    // 일부 멤버 실패는 로그만 남기고 나머지 멤버 전송 계속, 전원 실패일 때만 중단
+    private static Future<?> writeToGroup(String groupId, ChannelGroup targets, ByteBuf frame) {
+        ChannelGroupFuture f = targets.writeAndFlush(frame).awaitUninterruptibly();
+        if (f.isSuccess()) return f;
+
+        if (f.isPartialFailure()) {
+            for (ChannelFuture cf : f) {
+                if (!cf.isSuccess()) {
+                    log.warn("[TX][FILE512] group={} member write failed ch={} cause={}",
+                            groupId, cf.channel().id(), cf.cause().toString());
+                }
+            }
+            return GlobalEventExecutor.INSTANCE.newSucceededFuture(null);
+        }
+        return f;
+    }
+
+    private void transfer(String target, Set<Integer> ampIds, ByteBufAllocator alloc,
+                          Function<ByteBuf, Future<?>> write, ByteBuf audio,
+                          String fileName, byte formatCode, boolean realtime,
+                          TransferListener onTransferred) {
+        int totalSize = audio.readableBytes();
+        int pacingMs = realtime ? REALTIME_PACING_MS : 0;
 
         // blocking 작업은 별도 스레드
         new Thread(() -> {
             try {
+                // 링크 throughput 추정용: FS 시작 시각, pacing sleep 합계
+                long startNs = System.nanoTime();
+                long pacingNs = 0;
+
                 // 1) FS
                 ByteBuf fs = FileFrameEncoder.encodeStart(
-                        ch.alloc(),
+                        alloc,
                         totalSize,
                         formatCode,
                         (fileName == null || fileName.isBlank()) ? "audio.mp3" : fileName
                 );
 
-                log.info("[TX][FILE512][FS] ampId={} bytes=\n{}", ampId, HexDumpUtil.pretty(fs));
-                ch.writeAndFlush(fs).syncUninterruptibly();
-                if (pacingMs > 0) sleep(pacingMs);
+                log.info("[TX][FILE512][FS] {} bytes=\n{}", target, HexDumpUtil.pretty(fs));
+                write.apply(fs).syncUninterruptibly();
+                if (pacingMs > 0) pacingNs += sleep(pacingMs);
 
                 // 2) FD
-                int offset = 0;
                 int seq = 0;
 
-                byte[] payload = new byte[DATA];
+                while (audio.isReadable()) {
+                    int copy = Math.min(DATA, audio.readableBytes());
 
-                while (offset < fileBytes.length) {
-                    int remain = fileBytes.length - offset;
-                    int copy = Math.min(DATA, remain);
-
-                    // payload 채우기 + padding
-                    System.arraycopy(fileBytes, offset, payload, 0, copy);
-                    if (copy < DATA) Arrays.fill(payload, copy, DATA, (byte) 0x00);
-
-                    // FD 프레임 생성
-                    ByteBuf fd = FileFrameEncoder.encodeData(ch.alloc(), seq, payload);
+                    // FD 프레임 생성 (payload 채우기 + padding)
+                    ByteBuf fd = FileFrameEncoder.encodeData(alloc, seq, audio, copy);
 
                     // 너무 로그 많으면 debug 유지 (필요하면 HexDumpUtil.pretty(fd)도 가능)
-                    log.debug("[TX][FILE512][FD] ampId={} seq={} copy={}", ampId, seq, copy);
+                    log.debug("[TX][FILE512][FD] {} seq={} copy={}", target, seq, copy);
 
                     // 완료까지 대기(기존 동작 유지)
-                    ch.writeAndFlush(fd).syncUninterruptibly();
+                    write.apply(fd).syncUninterruptibly();
 
-                    offset += copy;
                     seq++;
 
-                    if (pacingMs > 0) sleep(pacingMs);
+                    if (pacingMs > 0) pacingNs += sleep(pacingMs);
                 }
 
                 // 3) FE
-                ByteBuf fe = FileFrameEncoder.encodeEnd(ch.alloc());
-                log.info("[TX][FILE512][FE] ampId={} bytes=\n{}", ampId, HexDumpUtil.pretty(fe));
+                ByteBuf fe = FileFrameEncoder.encodeEnd(alloc);
+                log.info("[TX][FILE512][FE] {} bytes=\n{}", target, HexDumpUtil.pretty(fe));
 
                 int finalSeq = seq; // listener에서 쓰려고 캡처
-                ChannelFuture f = ch.writeAndFlush(fe);
+                long finalPacingNs = pacingNs;
+                Future<?> f = write.apply(fe);
 
                 f.addListener(done -> {
                     if (done.isSuccess()) {
-                        log.info("[TX][FILE512][DONE] ampId={} totalBytes={} frames={}",
-                                ampId, totalSize, finalSeq);
+                        log.info("[TX][FILE512][DONE] {} totalBytes={} frames={}",
+                                target, totalSize, finalSeq);
+                        if (onTransferred != null) {
+                            long wireBytes = (long) (finalSeq + 2) * FileFrameEncoder.FRAME_SIZE;
+                            onTransferred.onTransferred(wireBytes, startNs, finalPacingNs);
+                        }
                     } else {
-                        log.error("[TX][FILE512][FAIL] ampId={}", ampId, done.cause());
+                        log.error("[TX][FILE512][FAIL] {}", target, done.cause());
                     }
                 });
 
             } catch (Exception e) {
-                log.error("sendMp3File failed ampId={}", ampId, e);
+                log.error("sendMp3 failed {}", target, e);
+            } finally {
+                audio.release();
+                long now = System.currentTimeMillis();
+                for (int ampId : ampIds) {
+                    deviceState.endTransfer(ampId);
+                    lastTransferEndMs.put(ampId, now);
+                }
             }
-        }, "file512-sender-" + ampId).start();
+        }, "file512-sender-" + (ampIds.size() == 1 ? ampIds.iterator().next() : "group")).start();
+    }
+
+    /**
+     * 방송 상태가 IDLE 이 아니거나 전송 종료 후 graceMs 이내 (재생 중일 가능성)
+     */
+    public boolean isBusy(int ampId, long graceMs) {
+        if (deviceState.state(ampId) != DeviceStateRegistry.State.IDLE) return true;
+        Long end = lastTransferEndMs.get(ampId);
+        return end != null && System.currentTimeMillis() - end < graceMs;
+    }
+
+    private void ensureConnected(int ampId) {
+        Channel ch = tcpSessionManager.get(ampId);
+        if (ch == null || !ch.isActive()) {
+            throw new IllegalStateException("AMP not connected: " + ampId);
+        }
     }
 
-    private static void sleep(int ms) {
+    // 실제로 잔 시간(ns)
+    private static long sleep(int ms) {
+        long t0 = System.nanoTime();
         try {
             Thread.sleep(ms);
         } catch (InterruptedException ie) {
             Thread.currentThread().interrupt();
         }
+        return System.nanoTime() - t0;
     }
 }
@@ -0,0 +1,229 @@
+package com.nptechon.smartamp.tcp.server.sender;
+
+import com.nptechon.smartamp.global.config.OfflineQueueProperties;
+import com.nptechon.smartamp.global.error.CustomException;
+import com.nptechon.smartamp.global.error.ErrorCode;
+import com.nptechon.smartamp.tcp.server.session.TcpSessionManager;
+import io.netty.channel.Channel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 오프라인 앰프 명령 보관 (store-and-forward)
+ * - 앰프별 bounded 대기열, 명령마다 만료 시각
+ * - DEVICE_REGISTER(0x01) ACK 직후 AmpInboundHandler 가 flush → 응답을 기다리지 않고 한 번에 전송
+ * - 같은 lane(제어 / 방송) 안에서는 앞 명령 응답 후 다음 명령 전송
+ * - 전송 도중 다시 끊기면 남은 명령은 대기열로 되돌림
+ * - 보관 명령이 없고 전송 체인도 끝난 앰프의 대기열은 map 에서 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OfflineCommandQueue {
+
+    private final OfflineQueueProperties props;
+    private final TcpSessionManager sessionManager;
+
+    private final Map<Integer, DeviceQueue> queues = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService timer;
+
+    // 접근은 synchronized(this DeviceQueue)
+    private static final class DeviceQueue {
+        private final Deque<QueuedCommand> waiting = new ArrayDeque<>();
+        // lane 별 마지막 전송 체인
+        private final Map<QueuedCommand.Lane, CompletableFuture<Void>> tails = new EnumMap<>(QueuedCommand.Lane.class);
+        // map 에서 제거됨 → 여기에 넣지 말고 새 대기열 사용
+        private boolean retired;
+    }
+
+    @PostConstruct
+    void init() {
+        timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "offline-queue-timer");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        timer.shutdownNow();
+    }
+
+    /**
+     * 명령 보관. 이미 연결되어 있으면 바로 전송
+     * @param send 연결된 채널로 명령을 보내고 응답 future 를 돌려주는 함수
+     */
+    public QueuedCommand enqueue(int ampId, String type, QueuedCommand.Lane lane, long ttlMs,
+                                 Function<Channel, CompletableFuture<Boolean>> send) {
+        if (!props.isEnabled()) {
+            throw new CustomException(ErrorCode.DEVICE_OFFLINE, "오프라인 명령 보관이 비활성화되어 있습니다.");
+        }
+
+        QueuedCommand cmd = new QueuedCommand(this, ampId, type, lane, ttlMs, send);
+        addLast(cmd, true);
+        timer.schedule(() -> expire(cmd), ttlMs, TimeUnit.MILLISECONDS);
+        log.info("[TCP][OFFLINE] enqueue ampId={} type={} commandId={} ttlMs={}", ampId, type, cmd.getCommandId(), ttlMs);
+
+        // 확인~등록 사이에 재등록됐거나 원래 연결된 경우
+        Channel ch = sessionManager.get(ampId);
+        if (ch != null && ch.isActive()) flush(ampId, ch);
+        return cmd;
+    }
+
+    // 전송 전 명령 (순서대로)
+    public List<QueuedCommand> pending(int ampId) {
+        DeviceQueue q = queues.get(ampId);
+        if (q == null) return List.of();
+        synchronized (q) {
+            return new ArrayList<>(q.waiting);
+        }
+    }
+
+    /**
+     * 0x01 ACK 직후 호출: 보관된 명령을 한 번에 전송
+     */
+    public void flush(int ampId, Channel ch) {
+        DeviceQueue q = queues.get(ampId);
+        if (q == null) return;
+
+        // 체인은 lock 안에서 만들고 전송은 lock 밖에서 시작 (gate)
+        CompletableFuture<Void> gate = new CompletableFuture<>();
+        int count;
+        synchronized (q) {
+            count = q.waiting.size();
+            if (count == 0) return;
+            QueuedCommand cmd;
+            while ((cmd = q.waiting.pollFirst()) != null) {
+                QueuedCommand c = cmd;
+                CompletableFuture<Void> tail = q.tails.getOrDefault(c.getLane(), CompletableFuture.completedFuture(null));
+                q.tails.put(c.getLane(), tail.exceptionally(e -> null)
+                        .thenCompose(v -> gate)
+                        .thenCompose(v -> dispatch(c, ch)));
+            }
+        }
+        log.info("[TCP][OFFLINE] flush ampId={} commands={} channel={}", ampId, count, ch.id());
+        gate.complete(null);
+
+        CompletableFuture<?>[] chains;
+        synchronized (q) {
+            chains = q.tails.values().toArray(CompletableFuture<?>[]::new);
+        }
+        CompletableFuture.allOf(chains).whenComplete((v, e) -> pruneIfIdle(ampId, q));
+    }
+
+    // 결과가 끝나면 완료되는 future (실패해도 정상 완료 → 다음 명령 진행)
+    private CompletableFuture<Void> dispatch(QueuedCommand cmd, Channel ch) {
+        if (cmd.getState() != QueuedCommand.State.QUEUED) return CompletableFuture.completedFuture(null);
+
+        if (!ch.isActive()) {
+            requeue(cmd);
+            return CompletableFuture.completedFuture(null);
+        }
+        if (!cmd.transition(QueuedCommand.State.QUEUED, QueuedCommand.State.SENT)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<Boolean> sent;
+        try {
+            sent = cmd.sendTo(ch);
+        } catch (RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+
+        return sent.handle((r, ex) -> {
+            if (ex != null) {
+                cmd.transition(QueuedCommand.State.SENT, QueuedCommand.State.FAILED);
+                cmd.getResult().completeExceptionally(ex);
+                log.warn("[TCP][OFFLINE] failed ampId={} type={} commandId={} ex={}",
+                        cmd.getAmpId(), cmd.getType(), cmd.getCommandId(), ex.toString());
+            } else {
+                cmd.transition(QueuedCommand.State.SENT, QueuedCommand.State.DONE);
+                cmd.getResult().complete(r);
+                log.info("[TCP][OFFLINE] delivered ampId={} type={} commandId={} result={} waitedMs={}",
+                        cmd.getAmpId(), cmd.getType(), cmd.getCommandId(), r,
+                        System.currentTimeMillis() - cmd.getEnqueuedAtMs());
+            }
+            return null;
+        });
+    }
+
+    // 전송 전에 채널이 끊김 → 다시 보관 (그 사이 새 채널이 붙었으면 바로 flush)
+    private void requeue(QueuedCommand cmd) {
+        addLast(cmd, false);
+        log.info("[TCP][OFFLINE] requeue ampId={} commandId={}", cmd.getAmpId(), cmd.getCommandId());
+
+        Channel now = sessionManager.get(cmd.getAmpId());
+        if (now != null && now.isActive()) flush(cmd.getAmpId(), now);
+    }
+
+    boolean cancel(QueuedCommand cmd) {
+        if (!cmd.transition(QueuedCommand.State.QUEUED, QueuedCommand.State.CANCELLED)) return false;
+        remove(cmd);
+        cmd.getResult().cancel(false);
+        log.info("[TCP][OFFLINE] cancel ampId={} commandId={}", cmd.getAmpId(), cmd.getCommandId());
+        return true;
+    }
+
+    private void expire(QueuedCommand cmd) {
+        if (!cmd.transition(QueuedCommand.State.QUEUED, QueuedCommand.State.EXPIRED)) return;
+        remove(cmd);
+        cmd.getResult().completeExceptionally(
+                new CustomException(ErrorCode.DEVICE_OFFLINE, "만료 시간 안에 앰프가 접속하지 않았습니다."));
+        log.info("[TCP][OFFLINE] expired ampId={} type={} commandId={}", cmd.getAmpId(), cmd.getType(), cmd.getCommandId());
+    }
+
+    private void remove(QueuedCommand cmd) {
+        DeviceQueue q = queues.get(cmd.getAmpId());
+        if (q == null) return;
+        synchronized (q) {
+            q.waiting.remove(cmd);
+        }
+        pruneIfIdle(cmd.getAmpId(), q);
+    }
+
+    // 정리된 대기열을 잡았으면 새로 만들어 다시 시도
+    private void addLast(QueuedCommand cmd, boolean bounded) {
+        while (true) {
+            DeviceQueue q = queues.computeIfAbsent(cmd.getAmpId(), k -> new DeviceQueue());
+            synchronized (q) {
+                if (q.retired) continue;
+                if (bounded && q.waiting.size() >= props.getMaxPerDevice()) {
+                    throw new CustomException(ErrorCode.DEVICE_BUSY,
+                            "보관 중인 명령이 너무 많습니다. (최대 " + props.getMaxPerDevice() + "건)");
+                }
+                q.waiting.addLast(cmd);
+                return;
+            }
+        }
+    }
+
+    // 보관 명령도, 진행 중인 전송 체인도 없으면 제거 (임의 ampId 로 쌓인 빈 대기열이 남지 않게)
+    private void pruneIfIdle(int ampId, DeviceQueue q) {
+        synchronized (q) {
+            if (q.retired || !q.waiting.isEmpty()) return;
+            for (CompletableFuture<Void> tail : q.tails.values()) {
+                if (!tail.isDone()) return;
+            }
+            q.retired = true;
+            queues.remove(ampId, q);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.nptechon.smartamp.tcp.server.sender;
+
+import io.netty.channel.Channel;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 오프라인 앰프에 보관된 명령 1건 (호출자에게 돌려주는 handle)
+ * - getResult(): 앰프 응답 결과 (만료/취소/오프라인은 예외로 완료)
+ * - await / cancel 로 기다리거나 취소
+ */
+@Getter
+public class QueuedCommand {
+
+    public enum State { QUEUED, SENT, DONE, FAILED, EXPIRED, CANCELLED }
+
+    // 같은 lane 은 앞 명령의 응답 후 전송 (pending 맵이 opcode 별로 하나라서)
+    public enum Lane { CONTROL, BROADCAST }
+
+    private final String commandId = UUID.randomUUID().toString();
+    private final int ampId;
+    private final String type;
+    private final Lane lane;
+    private final long enqueuedAtMs = System.currentTimeMillis();
+    private final long expiresAtMs;
+    private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+    @Getter(AccessLevel.NONE)
+    private final Function<Channel, CompletableFuture<Boolean>> send;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<State> state = new AtomicReference<>(State.QUEUED);
+
+    @Getter(AccessLevel.NONE)
+    private final OfflineCommandQueue queue;
+
+    QueuedCommand(OfflineCommandQueue queue, int ampId, String type, Lane lane, long ttlMs,
+                  Function<Channel, CompletableFuture<Boolean>> send) {
+        this.queue = queue;
+        this.ampId = ampId;
+        this.type = type;
+        this.lane = lane;
+        this.expiresAtMs = enqueuedAtMs + ttlMs;
+        this.send = send;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * 끝날 때까지 최대 timeoutMs 대기. 끝났으면 true
+     */
+    public boolean await(long timeoutMs) throws InterruptedException {
+        try {
+            result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException | CancellationException e) {
+            // 실패도 끝난 것
+        }
+        return true;
+    }
+
+    /**
+     * 아직 전송 전이면 취소하고 true (이미 앰프로 보낸 명령은 취소 불가)
+     */
+    public boolean cancel() {
+        return queue.cancel(this);
+    }
+
+    boolean transition(State from, State to) {
+        return state.compareAndSet(from, to);
+    }
+
+    CompletableFuture<Boolean> sendTo(Channel ch) {
+        return send.apply(ch);
+    }
+}
@@ -0,0 +1,138 @@
+package com.nptechon.smartamp.tcp.server.session;
+
+import io.netty.channel.Channel;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 그룹별 라이브 채널 셋
+ * - 그룹 멤버 앰프가 bind/unbind 될 때마다 바로 반영
+ * - 방송 시 앰프별 레지스트리 조회 없이 그룹 채널 셋에 한 번에 write
+ * - 닫힌 채널은 DefaultChannelGroup 이 자동으로 빼준다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AmpChannelGroups implements TcpSessionListener {
+
+    private final TcpSessionManager sessionManager;
+
+    private final Map<String, Group> groups = new ConcurrentHashMap<>();
+
+    // ampId -> 소속 그룹 id (bind 시 그룹 전체를 훑지 않도록)
+    private final Map<Integer, Set<String>> groupsOfAmp = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        sessionManager.addListener(this);
+    }
+
+    /**
+     * 그룹 정의/교체
+     * - 현재 접속 중인 멤버 채널로 바로 채운다
+     */
+    public synchronized void define(String groupId, Collection<Integer> ampIds) {
+        remove(groupId);
+
+        Group g = new Group(groupId, Set.copyOf(ampIds));
+        for (int ampId : g.members) {
+            groupsOfAmp.computeIfAbsent(ampId, k -> ConcurrentHashMap.newKeySet()).add(groupId);
+
+            Channel ch = sessionManager.get(ampId);
+            if (ch != null && ch.isActive()) {
+                g.channels.add(ch);
+            }
+        }
+        groups.put(groupId, g);
+
+        log.info("[TCP][GROUP] define groupId={} members={} connected={}", groupId, g.members.size(), g.channels.size());
+    }
+
+    public synchronized void remove(String groupId) {
+        Group g = groups.remove(groupId);
+        if (g == null) return;
+
+        for (int ampId : g.members) {
+            Set<String> ids = groupsOfAmp.get(ampId);
+            if (ids != null) {
+                ids.remove(groupId);
+                if (ids.isEmpty()) groupsOfAmp.remove(ampId);
+            }
+        }
+        // 채널은 닫지 않고 셋에서만 뺀다
+        g.channels.clear();
+    }
+
+    // 현재 접속 중인 멤버 채널 (없는 그룹이면 null)
+    public ChannelGroup channels(String groupId) {
+        Group g = groups.get(groupId);
+        return (g == null) ? null : g.channels;
+    }
+
+    /**
+     * 접속 중인 멤버 ampId -> 채널 (채널 attr 에서 id 를 읽어 레지스트리 조회 없음)
+     */
+    public Map<Integer, Channel> connected(String groupId) {
+        Group g = groups.get(groupId);
+        if (g == null) return Map.of();
+
+        Map<Integer, Channel> out = new LinkedHashMap<>();
+        for (Channel ch : g.channels) {
+            Integer ampId = sessionManager.getBoundDeviceId(ch);
+            if (ampId != null && ch.isActive()) out.put(ampId, ch);
+        }
+        return out;
+    }
+
+    public Set<Integer> members(String groupId) {
+        Group g = groups.get(groupId);
+        return (g == null) ? Set.of() : g.members;
+    }
+
+    @Override
+    public void onBind(int deviceId, Channel ch) {
+        Set<String> ids = groupsOfAmp.get(deviceId);
+        if (ids == null) return;
+
+        for (String groupId : ids) {
+            Group g = groups.get(groupId);
+            if (g == null) continue;
+
+            // 재연결: 이전 채널이 아직 안 닫혔어도 그룹에서는 새 채널만 유지
+            g.channels.removeIf(old -> old != ch && Integer.valueOf(deviceId).equals(sessionManager.getBoundDeviceId(old)));
+            g.channels.add(ch);
+        }
+    }
+
+    @Override
+    public void onUnbind(int deviceId, Channel ch) {
+        Set<String> ids = groupsOfAmp.get(deviceId);
+        if (ids == null) return;
+
+        for (String groupId : ids) {
+            Group g = groups.get(groupId);
+            if (g != null) g.channels.remove(ch);
+        }
+    }
+
+    private static final class Group {
+        private final Set<Integer> members;
+        private final ChannelGroup channels;
+
+        private Group(String groupId, Set<Integer> members) {
+            this.members = members;
+            this.channels = new DefaultChannelGroup(groupId, GlobalEventExecutor.INSTANCE);
+        }
+    }
+}
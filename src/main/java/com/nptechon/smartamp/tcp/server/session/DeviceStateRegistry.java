@@ -0,0 +1,220 @@
+package com.nptechon.smartamp.tcp.server.session;
+
+import com.nptechon.smartamp.global.config.DeviceStateProperties;
+import io.netty.channel.Channel;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 앰프별 방송 상태 (lock-free)
+ * - IDLE → HANDSHAKING(0x03/0x04 응답 대기) → TRANSFERRING(512 프레임 전송) → PLAYING_UNTIL(t)
+ * - 상태와 시각을 long 하나에 넣고 CAS 로만 전이: 상위 2bit = 상태, 나머지 = epoch ms
+ *   · HANDSHAKING: 만료 시각 (응답/전송 누락 대비)
+ *   · TRANSFERRING: 전송 후 재생이 끝날 시각 (모르면 0)
+ *   · PLAYING: 재생 종료 추정 시각
+ * - 충돌하는 요청은 링크를 타지 않고 여기서 바로 거절
+ * - 인덱스 음원(0x03)은 길이를 모르므로 PLAYING 으로 두지 않고 종료 추정 시각만 따로 기록 (대기열용, 거절 안 함)
+ * - bind/unbind 시 IDLE 로 초기화 (재접속한 앰프는 재생 중이 아님)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeviceStateRegistry implements TcpSessionListener {
+
+    public enum State { IDLE, HANDSHAKING, TRANSFERRING, PLAYING }
+
+    private static final int INFINITE = 0xFF;
+
+    private static final int STATE_SHIFT = 62;
+    private static final long TIME_MASK = (1L << STATE_SHIFT) - 1;
+
+    private final DeviceStateProperties props;
+    private final TcpSessionManager sessionManager;
+
+    private final ConcurrentHashMap<Integer, AtomicLong> states = new ConcurrentHashMap<>();
+
+    // 0x03 OK 후 추정 종료 시각 (indexDurationMs × repeat 추정치, Busy 판단은 앰프에 맡김)
+    private final ConcurrentHashMap<Integer, Long> indexEstimates = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        sessionManager.addListener(this);
+    }
+
+    private static long pack(State s, long ms) {
+        return ((long) s.ordinal() << STATE_SHIFT) | (ms & TIME_MASK);
+    }
+
+    private static State stateOf(long v) {
+        return State.values()[(int) (v >>> STATE_SHIFT)];
+    }
+
+    private static long timeOf(long v) {
+        return v & TIME_MASK;
+    }
+
+    private AtomicLong slot(int ampId) {
+        return states.computeIfAbsent(ampId, k -> new AtomicLong(pack(State.IDLE, 0)));
+    }
+
+    // 만료된 HANDSHAKING / 끝난 PLAYING 은 IDLE 로 본다
+    private State effective(long v, long now) {
+        State s = stateOf(v);
+        if ((s == State.HANDSHAKING || s == State.PLAYING) && timeOf(v) <= now) return State.IDLE;
+        if (s == State.PLAYING && !props.isRejectWhilePlaying()) return State.IDLE;
+        return s;
+    }
+
+    public State state(int ampId) {
+        AtomicLong a = states.get(ampId);
+        return (a == null) ? State.IDLE : effective(a.get(), System.currentTimeMillis());
+    }
+
+    /**
+     * 0x03 / 0x04 보내기 전. IDLE 일 때만 HANDSHAKING 으로 바꾸고 true
+     */
+    public boolean tryBeginHandshake(int ampId) {
+        AtomicLong a = slot(ampId);
+        while (true) {
+            long now = System.currentTimeMillis();
+            long v = a.get();
+            if (effective(v, now) != State.IDLE) {
+                if (!props.isEnabled()) return true;
+                log.info("[TCP][STATE] reject handshake ampId={} state={}", ampId, stateOf(v));
+                return false;
+            }
+            if (a.compareAndSet(v, pack(State.HANDSHAKING, now + props.getHandshakeHoldMs()))) return true;
+        }
+    }
+
+    // 0x04 OK → 전송 시작까지 HANDSHAKING 유지 (만료 시각 갱신)
+    public void awaitTransfer(int ampId) {
+        transition(ampId, State.HANDSHAKING, State.HANDSHAKING, System.currentTimeMillis() + props.getHandshakeHoldMs());
+    }
+
+    // 0x03 OK → HANDSHAKING 해제, 재생 종료는 추정치로만 기록
+    public void indexStarted(int ampId, int repeat) {
+        long until = System.currentTimeMillis() + props.getIndexDurationMs() * repeatTimes(repeat);
+        indexEstimates.put(ampId, until);
+        transition(ampId, State.HANDSHAKING, State.IDLE, 0);
+    }
+
+    // 앰프가 Busy 응답 → 잠깐 동안은 로컬에서 바로 Busy
+    public void deviceBusy(int ampId) {
+        AtomicLong a = slot(ampId);
+        while (true) {
+            long v = a.get();
+            long hold = System.currentTimeMillis() + props.getBusyHoldMs();
+            State s = stateOf(v);
+            if (s == State.TRANSFERRING) return;
+            long until = (s == State.PLAYING) ? Math.max(timeOf(v), hold) : hold;
+            if (a.compareAndSet(v, pack(State.PLAYING, until))) return;
+        }
+    }
+
+    // 응답 실패 / 합성 실패 등 → HANDSHAKING 해제
+    public void release(int ampId) {
+        transition(ampId, State.HANDSHAKING, State.IDLE, 0);
+    }
+
+    /**
+     * 512 프레임 전송 시작. 이미 전송 중이면 false
+     * - 0x04 를 거친 경우(HANDSHAKING) 와 IDLE 에서 바로 보내는 경우 모두 허용
+     * - enabled=false 면 거절하지 않음 (이미 TRANSFERRING 이면 그대로 두고 true)
+     */
+    public boolean tryBeginTransfer(int ampId) {
+        AtomicLong a = slot(ampId);
+        while (true) {
+            long now = System.currentTimeMillis();
+            long v = a.get();
+            State s = effective(v, now);
+            if (s == State.TRANSFERRING || s == State.PLAYING) {
+                if (!props.isEnabled()) {
+                    if (s == State.TRANSFERRING) return true;
+                } else {
+                    log.info("[TCP][STATE] reject transfer ampId={} state={}", ampId, s);
+                    return false;
+                }
+            }
+            if (a.compareAndSet(v, pack(State.TRANSFERRING, 0))) return true;
+        }
+    }
+
+    // 전송 종료 → 재생 종료 시각이 남아 있으면 PLAYING, 아니면 IDLE
+    public void endTransfer(int ampId) {
+        AtomicLong a = slot(ampId);
+        while (true) {
+            long v = a.get();
+            if (stateOf(v) != State.TRANSFERRING) return;
+            long until = timeOf(v);
+            long next = (until > System.currentTimeMillis()) ? pack(State.PLAYING, until) : pack(State.IDLE, 0);
+            if (a.compareAndSet(v, next)) return;
+        }
+    }
+
+    /**
+     * 재생 길이가 정해졌을 때 (MP3 길이 × repeat, repeat=255 는 1회분만)
+     * - 전송 중이면 상태는 유지하고 종료 시각만 기록
+     */
+    public void markPlaying(int ampId, long durationMs, int repeat) {
+        long until = System.currentTimeMillis() + durationMs * repeatTimes(repeat);
+        AtomicLong a = slot(ampId);
+        while (true) {
+            long v = a.get();
+            State s = stateOf(v);
+            long next = (s == State.TRANSFERRING) ? pack(State.TRANSFERRING, until) : pack(State.PLAYING, until);
+            if (a.compareAndSet(v, next)) return;
+        }
+    }
+
+    // 재생 종료 추정 시각 (모르거나 이미 지났으면 0)
+    public long expectedFreeAtMs(int ampId) {
+        long now = System.currentTimeMillis();
+        long until = 0;
+
+        AtomicLong a = states.get(ampId);
+        if (a != null) {
+            long v = a.get();
+            State s = stateOf(v);
+            if (s == State.PLAYING || s == State.TRANSFERRING) until = timeOf(v);
+        }
+
+        Long estimate = indexEstimates.get(ampId);
+        if (estimate != null) {
+            if (estimate <= now) indexEstimates.remove(ampId, estimate);
+            else until = Math.max(until, estimate);
+        }
+        return (until > now) ? until : 0;
+    }
+
+    private void transition(int ampId, State from, State to, long ms) {
+        AtomicLong a = slot(ampId);
+        while (true) {
+            long v = a.get();
+            if (stateOf(v) != from) return;
+            if (a.compareAndSet(v, pack(to, ms))) return;
+        }
+    }
+
+    @Override
+    public void onBind(int deviceId, Channel ch) {
+        slot(deviceId).set(pack(State.IDLE, 0));
+        indexEstimates.remove(deviceId);
+    }
+
+    @Override
+    public void onUnbind(int deviceId, Channel ch) {
+        // 전송 스레드는 write 실패로 끝나면서 endTransfer 를 부른다
+        AtomicLong a = states.get(deviceId);
+        if (a != null && stateOf(a.get()) != State.TRANSFERRING) a.set(pack(State.IDLE, 0));
+    }
+
+    private static int repeatTimes(int repeat) {
+        return (repeat == INFINITE) ? 1 : Math.max(1, repeat);
+    }
+}
@@ -0,0 +1,14 @@
+package com.nptechon.smartamp.tcp.server.session;
+
+import io.netty.channel.Channel;
+
+/**
+ * 앰프 채널 bind / unbind 알림
+ * - 이벤트루프 스레드에서 호출되므로 blocking 작업 금지
+ */
+public interface TcpSessionListener {
+
+    void onBind(int deviceId, Channel ch);
+
+    void onUnbind(int deviceId, Channel ch);
+}
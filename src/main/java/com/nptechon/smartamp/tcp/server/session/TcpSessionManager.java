@@ -9,7 +9,11 @@ import io.netty.util.concurrent.ScheduledFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -25,46 +29,96 @@ public class TcpSessionManager {
 
     private final ConcurrentHashMap<Integer, Channel> channels = new ConcurrentHashMap<>();
 
+    // bind/unbind 를 따라가야 하는 쪽 (그룹 채널 셋 등)
+    private final List<TcpSessionListener> listeners = new CopyOnWriteArrayList<>();
+
     // NAT idle timeout 방지용 (30초 권장: LTE/공유기 환경에서 안전)
     private static final long HEARTBEAT_PERIOD_SEC = 30;
 
-    public void bind(int deviceId, Channel ch) {
+    /**
+     * @return 같은 deviceId 로 붙어 있던 이전 채널 (닫고 교체함), 없으면 null
+     */
+    public Channel bind(int deviceId, Channel ch) {
         ch.attr(ATTR_DEVICE_ID).set(deviceId);
-        channels.put(deviceId, ch);
+        Channel old = channels.put(deviceId, ch);
 
         // 기존 heartbeat가 있으면 정리 후 재등록(재연결 케이스)
         stopHeartbeat(ch);
 
+        // 같은 앰프가 새 연결로 재등록 → 이전 채널은 덮어쓰지만 말고 닫는다
+        // (이전 채널의 channelInactive 는 channels.remove(id, old) 가 실패하므로 새 세션에 영향 없음)
+        if (old != null && old != ch) {
+            stopHeartbeat(old);
+            notifyUnbind(deviceId, old);
+            old.close();
+            log.warn("[TCP][SESSION] replace deviceId={} old={} new={}", deviceId, old.id(), ch.id());
+        } else {
+            old = null;
+        }
+
         startHeartbeat(deviceId, ch);
 
         log.info("[TCP][SESSION] bind deviceId={} ch={}", deviceId, ch.id());
+
+        for (TcpSessionListener l : listeners) {
+            l.onBind(deviceId, ch);
+        }
+        return old;
+    }
+
+    public void addListener(TcpSessionListener listener) {
+        listeners.add(listener);
     }
 
-    public void unbind(Channel ch) {
+    /**
+     * @return 이 채널이 해당 앰프의 현재 세션이었으면 true (이미 새 채널로 교체됐으면 false)
+     */
+    public boolean unbind(Channel ch) {
         stopHeartbeat(ch);
 
         Integer deviceId = ch.attr(ATTR_DEVICE_ID).get();
-        if (deviceId != null) {
-            channels.remove(deviceId, ch);
-            log.info("[TCP][SESSION] unbind deviceId={} ch={}", deviceId, ch.id());
+        if (deviceId == null) return false;
+
+        boolean current = channels.remove(deviceId, ch);
+        if (current) {
+            notifyUnbind(deviceId, ch);
         }
+        log.info("[TCP][SESSION] unbind deviceId={} ch={} current={}", deviceId, ch.id(), current);
+        return current;
     }
 
     public Channel get(int deviceId) {
         return channels.get(deviceId);
     }
 
+    // 현재 접속 중인 앰프 id 스냅샷
+    public Set<Integer> connectedIds() {
+        Set<Integer> ids = new HashSet<>();
+        channels.forEach((id, ch) -> {
+            if (ch.isActive()) ids.add(id);
+        });
+        return ids;
+    }
+
     // 외부에서 강제 close 하고 싶을 때
     public void close(int deviceId) {
         Channel ch = channels.get(deviceId);
         if (ch != null) {
             stopHeartbeat(ch);
             ch.close();
-            channels.remove(deviceId, ch);
+            if (channels.remove(deviceId, ch)) {
+                notifyUnbind(deviceId, ch);
+            }
             log.warn("[TCP][SESSION] close deviceId={} ch={}", deviceId, ch.id());
         }
     }
 
+    private void notifyUnbind(int deviceId, Channel ch) {
+        for (TcpSessionListener l : listeners) {
+            l.onUnbind(deviceId, ch);
+        }
+    }
+
     private void startHeartbeat(int deviceId, Channel ch) {
         // eventLoop에서 주기 실행 (Netty 스레드 안정성 OK)
         ScheduledFuture<?> f = ch.eventLoop().scheduleAtFixedRate(() -> {
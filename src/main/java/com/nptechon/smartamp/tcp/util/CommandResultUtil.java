@@ -0,0 +1,43 @@
+package com.nptechon.smartamp.tcp.util;
+
+import com.nptechon.smartamp.global.error.CustomException;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 다중 앰프 요청 결과 분류 (ok / offline / timeout / busy / error)
+ */
+public final class CommandResultUtil {
+
+    private CommandResultUtil() {}
+
+    public static final String OK = "ok";
+    public static final String OFFLINE = "offline";
+    public static final String TIMEOUT = "timeout";
+    public static final String BUSY = "busy";
+    public static final String ERROR = "error";
+
+    public static String classify(Throwable t) {
+        Throwable c = unwrap(t);
+        if (c instanceof TimeoutException) return TIMEOUT;
+        if (c instanceof CustomException ce) {
+            return switch (ce.getErrorCode()) {
+                case DEVICE_OFFLINE -> OFFLINE;
+                case DEVICE_TIMEOUT -> TIMEOUT;
+                case DEVICE_BUSY -> BUSY;
+                default -> ERROR;
+            };
+        }
+        return ERROR;
+    }
+
+    public static Throwable unwrap(Throwable t) {
+        Throwable c = t;
+        while ((c instanceof CompletionException || c instanceof ExecutionException) && c.getCause() != null) {
+            c = c.getCause();
+        }
+        return c;
+    }
+}
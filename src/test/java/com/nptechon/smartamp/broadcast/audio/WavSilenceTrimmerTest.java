@@ -0,0 +1,138 @@
+package com.nptechon.smartamp.broadcast.audio;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WavSilenceTrimmerTest {
+
+	// 1kHz 로 만들어 1 frame = 1ms
+	private static final int RATE = 1000;
+
+	@Test
+	void walksChunksBeforeFmtAndTrimsWithPadding() {
+		// 무음 200ms + 소리 300ms + 무음 500ms (16bit mono)
+		byte[] pcm = new byte[1000 * 2];
+		ByteBuffer bb = ByteBuffer.wrap(pcm).order(ByteOrder.LITTLE_ENDIAN);
+		for (int f = 200; f < 500; f++) {
+			bb.putShort(f * 2, (short) ((f % 2 == 0) ? 10_000 : -10_000));
+		}
+
+		// fmt 앞에 홀수 길이 청크 (pad byte 포함) 를 두어 청크 순회 확인
+		byte[] wav = wav(chunk("LIST", new byte[3]), fmt(1, 16), chunk("data", pcm));
+
+		WavSilenceTrimmer.Result r = WavSilenceTrimmer.trim(wav, -40, 10, 50);
+
+		assertTrue(r.isApplied());
+		assertEquals(RATE, r.getSampleRate());
+		assertEquals(1000, r.getOriginalMs());
+		// [150, 550) 만 남음
+		assertEquals(600, r.getTrimmedMs());
+		assertEquals(44 + 400 * 2, r.getWav().length);
+		assertArrayEquals(Arrays.copyOfRange(pcm, 150 * 2, 550 * 2), data(r.getWav()));
+	}
+
+	@Test
+	void treatsEightBitPcmAsUnsigned() {
+		// 8bit 의 무음은 128. signed 로 읽으면 전부 최대 음량으로 보임
+		byte[] pcm = new byte[300];
+		Arrays.fill(pcm, (byte) 128);
+		for (int f = 100; f < 200; f++) {
+			pcm[f] = (byte) ((f % 2 == 0) ? 228 : 28);
+		}
+
+		byte[] wav = wav(fmt(1, 8), chunk("data", pcm));
+
+		WavSilenceTrimmer.Result r = WavSilenceTrimmer.trim(wav, -40, 10, 0);
+
+		assertTrue(r.isApplied());
+		assertEquals(200, r.getTrimmedMs());
+		assertEquals(8, ByteBuffer.wrap(r.getWav()).order(ByteOrder.LITTLE_ENDIAN).getShort(34));
+		assertArrayEquals(Arrays.copyOfRange(pcm, 100, 200), data(r.getWav()));
+	}
+
+	@Test
+	void keepsAllSilentAudioUntouched() {
+		byte[] wav = wav(fmt(1, 16), chunk("data", new byte[500 * 2]));
+
+		WavSilenceTrimmer.Result r = WavSilenceTrimmer.trim(wav, -40, 10, 50);
+
+		assertFalse(r.isApplied());
+		assertSame(wav, r.getWav());
+		assertEquals(500, r.getOriginalMs());
+		assertEquals(0, r.getTrimmedMs());
+	}
+
+	@Test
+	void usesRemainingBytesWhenDataSizeIsUnknown() {
+		// 스트리밍 녹음: data size 0xFFFFFFFF
+		byte[] pcm = new byte[100 * 2];
+		ByteBuffer.wrap(pcm).order(ByteOrder.LITTLE_ENDIAN).putShort(50 * 2, (short) 20_000);
+
+		byte[] data = chunk("data", pcm);
+		ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN).putInt(4, 0xFFFFFFFF);
+
+		WavSilenceTrimmer.Result r = WavSilenceTrimmer.trim(wav(fmt(1, 16), data), -40, 10, 0);
+
+		assertTrue(r.isApplied());
+		assertEquals(100, r.getOriginalMs());
+		assertEquals(90, r.getTrimmedMs());
+	}
+
+	@Test
+	void skipsUnsupportedFormat() {
+		// IEEE float
+		byte[] wav = wav(fmt(3, 32), chunk("data", new byte[400]));
+
+		WavSilenceTrimmer.Result r = WavSilenceTrimmer.trim(wav, -40, 10, 50);
+
+		assertFalse(r.isApplied());
+		assertSame(wav, r.getWav());
+	}
+
+	private static byte[] fmt(int format, int bits) {
+		int blockAlign = bits / 8;
+		ByteBuffer b = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+		b.putShort((short) format);
+		b.putShort((short) 1);
+		b.putInt(RATE);
+		b.putInt(RATE * blockAlign);
+		b.putShort((short) blockAlign);
+		b.putShort((short) bits);
+		return chunk("fmt ", b.array());
+	}
+
+	private static byte[] chunk(String id, byte[] body) {
+		ByteBuffer b = ByteBuffer.allocate(8 + body.length + (body.length & 1)).order(ByteOrder.LITTLE_ENDIAN);
+		b.put(id.getBytes(StandardCharsets.US_ASCII));
+		b.putInt(body.length);
+		b.put(body);
+		return b.array();
+	}
+
+	private static byte[] wav(byte[]... chunks) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.writeBytes("RIFF".getBytes(StandardCharsets.US_ASCII));
+		out.writeBytes(new byte[4]);
+		out.writeBytes("WAVE".getBytes(StandardCharsets.US_ASCII));
+		for (byte[] c : chunks) out.writeBytes(c);
+		byte[] wav = out.toByteArray();
+		ByteBuffer.wrap(wav).order(ByteOrder.LITTLE_ENDIAN).putInt(4, wav.length - 8);
+		return wav;
+	}
+
+	// 잘라낸 결과는 표준 44바이트 헤더
+	private static byte[] data(byte[] wav) {
+		return Arrays.copyOfRange(wav, 44, wav.length);
+	}
+}
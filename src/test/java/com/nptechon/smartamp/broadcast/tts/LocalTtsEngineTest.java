@@ -0,0 +1,34 @@
+package com.nptechon.smartamp.broadcast.tts;
+
+import com.nptechon.smartamp.broadcast.audio.Mp3FrameUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalTtsEngineTest {
+
+	// 1152 samples / 44100Hz
+	private static final double FRAME_MS = 1152 * 1000.0 / 44100;
+
+	@Test
+	void silentMp3FramesMatchDeclaredHeader() {
+		byte[] mp3 = LocalTtsEngine.silentMp3(5000);
+
+		int frameLength = Mp3FrameUtil.frameLength(mp3, 0);
+		assertEquals(104, frameLength);
+		assertEquals(0, mp3.length % frameLength);
+
+		// 모든 프레임 경계에 헤더가 있어야 함 (헤더 길이와 실제 간격이 어긋나면 중간 프레임이 깨짐)
+		for (int off = 0; off < mp3.length; off += frameLength) {
+			assertEquals(frameLength, Mp3FrameUtil.frameLength(mp3, off), "frame at " + off);
+		}
+	}
+
+	@Test
+	void silentMp3DurationMatchesRequest() {
+		long durationMs = Mp3FrameUtil.durationMs(LocalTtsEngine.silentMp3(5000));
+
+		assertTrue(durationMs >= 5000 && durationMs < 5000 + FRAME_MS + 1, "durationMs=" + durationMs);
+	}
+}
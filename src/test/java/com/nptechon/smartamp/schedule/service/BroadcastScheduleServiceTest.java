@@ -0,0 +1,72 @@
+package com.nptechon.smartamp.schedule.service;
+
+import com.nptechon.smartamp.schedule.dto.BroadcastScheduleSaveDto;
+import com.nptechon.smartamp.schedule.dto.BroadcastScheduleType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BroadcastScheduleServiceTest {
+
+	private TimeZone original;
+
+	// 서버 TZ 가 UTC 여도 cron / fireAt 은 KST 로 해석되어야 함
+	@BeforeEach
+	void useUtcDefault() {
+		original = TimeZone.getDefault();
+		TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+	}
+
+	@AfterEach
+	void restoreDefault() {
+		TimeZone.setDefault(original);
+	}
+
+	@Test
+	void cronFiresAtKstWallClock() {
+		BroadcastScheduleSaveDto def = cron("0 0 9 * * *");
+
+		// KST 2026-01-01 08:00 → 같은 날 09:00 KST (= 00:00Z)
+		assertEquals(ms("2026-01-01T00:00:00Z"), BroadcastScheduleService.nextFireMs(def, ms("2025-12-31T23:00:00Z")));
+		// KST 09:30 → 다음 날 09:00 KST
+		assertEquals(ms("2026-01-02T00:00:00Z"), BroadcastScheduleService.nextFireMs(def, ms("2026-01-01T00:30:00Z")));
+	}
+
+	@Test
+	void cronUsesKstDayOfWeek() {
+		// 월요일 07:00 KST = 일요일 22:00Z
+		BroadcastScheduleSaveDto def = cron("0 0 7 * * MON");
+
+		assertEquals(ms("2026-01-04T22:00:00Z"), BroadcastScheduleService.nextFireMs(def, ms("2026-01-01T00:00:00Z")));
+	}
+
+	@Test
+	void fireAtIsKstLocalTime() {
+		BroadcastScheduleSaveDto def = fireAt("2026-01-01T09:00:00");
+		long at = ms("2026-01-01T00:00:00Z");
+
+		assertEquals(at, BroadcastScheduleService.nextFireMs(def, at - 1));
+		// 이미 지났으면 없음
+		assertEquals(-1, BroadcastScheduleService.nextFireMs(def, at));
+	}
+
+	private static BroadcastScheduleSaveDto cron(String cron) {
+		return new BroadcastScheduleSaveDto("s1", BroadcastScheduleType.INDEX, List.of(1), null,
+				1, null, 1, cron, null, true);
+	}
+
+	private static BroadcastScheduleSaveDto fireAt(String fireAt) {
+		return new BroadcastScheduleSaveDto("s1", BroadcastScheduleType.INDEX, List.of(1), null,
+				1, null, 1, null, fireAt, true);
+	}
+
+	private static long ms(String instant) {
+		return Instant.parse(instant).toEpochMilli();
+	}
+}
@@ -0,0 +1,109 @@
+package com.nptechon.smartamp.tcp.protocol.payload;
+
+import com.nptechon.smartamp.tcp.protocol.LogInfoDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LogColumnsTest {
+
+	private static final int REC = LogPayloadParser.RECORD_SIZE;
+
+	@Test
+	void recentDescendingMatchesDtoFilterAndSort() {
+		Random rnd = new Random(42);
+		for (int round = 0; round < 50; round++) {
+			byte[] payload = randomPayload(rnd, 1 + rnd.nextInt(LogPayloadParser.MAX_ENTRIES));
+
+			LocalDateTime now = LocalDateTime.of(2025, 3, 10, 12, 0, 0);
+			LocalDateTime from = now.minusDays(1 + rnd.nextInt(7));
+
+			List<LogInfoDto> expected = LogPayloadParser.parseLogResponsePayload(payload).stream()
+					.filter(li -> !li.getDateTime().isBefore(from) && !li.getDateTime().isAfter(now))
+					.sorted(Comparator.comparing(LogInfoDto::getDateTime).reversed())
+					.toList();
+
+			List<LogInfoDto> actual = LogPayloadParser.parseColumns(payload)
+					.recentDescending(from.toEpochSecond(ZoneOffset.UTC), now.toEpochSecond(ZoneOffset.UTC));
+
+			assertEquals(expected.toString(), actual.toString(), "round " + round);
+		}
+	}
+
+	@Test
+	void sameTimestampKeepsOriginalOrder() {
+		byte[] payload = new byte[1 + 3 * REC];
+		payload[0] = 3;
+		for (int i = 0; i < 3; i++) {
+			put(payload, 1 + i * REC, i, 1, 25, 3, 10, 11, 30, 0);
+		}
+
+		List<LogInfoDto> out = LogPayloadParser.parseColumns(payload)
+				.recentDescending(Long.MIN_VALUE, Long.MAX_VALUE);
+
+		assertEquals(List.of(0, 1, 2), out.stream().map(LogInfoDto::getSeq).toList());
+	}
+
+	@Test
+	void epochSecondsClampLikeDtoPath() {
+		int[][] fields = {
+				{25, 0, 1, 0, 0, 0},        // mm 0 -> 1
+				{25, 13, 31, 23, 59, 59},   // mm 13 -> 12
+				{24, 2, 29, 24, 60, 60},    // 윤년, hh/mi/ss 상한
+				{0, 1, 0, 0, 0, 0},         // dd 0 -> 1
+				{99, 12, 31, 255, 255, 255},
+		};
+		for (int[] f : fields) {
+			byte[] rec = new byte[REC];
+			put(rec, 0, 0, 1, f[0], f[1], f[2], f[3], f[4], f[5]);
+
+			long expected = LogPayloadParser.parseRecord(rec, 0).getDateTime().toEpochSecond(ZoneOffset.UTC);
+			assertEquals(expected, LogColumns.localEpochSec(f[0], f[1], f[2], f[3], f[4], f[5]),
+					Arrays.toString(f));
+		}
+	}
+
+	@Test
+	void rejectsPayloadsTheDtoPathRejects() {
+		assertThrows(IllegalArgumentException.class, () -> LogPayloadParser.parseColumns(new byte[0]));
+		// n=2 인데 레코드 1건
+		byte[] truncated = new byte[1 + REC];
+		truncated[0] = 2;
+		assertThrows(IllegalArgumentException.class, () -> LogPayloadParser.parseColumns(truncated));
+		assertThrows(IllegalArgumentException.class, () -> LogPayloadParser.parseLogResponsePayload(truncated));
+	}
+
+	// 구간 경계 근처 시각과 같은 시각 중복이 섞이도록 생성 (월/일은 항상 유효한 날짜)
+	private static byte[] randomPayload(Random rnd, int n) {
+		byte[] payload = new byte[1 + n * REC];
+		payload[0] = (byte) n;
+		for (int i = 0; i < n; i++) {
+			int dd = 1 + rnd.nextInt(12);
+			int hh = rnd.nextBoolean() ? 12 : rnd.nextInt(24);
+			int mi = rnd.nextBoolean() ? 0 : rnd.nextInt(60);
+			int ss = rnd.nextBoolean() ? 0 : rnd.nextInt(60);
+			put(payload, 1 + i * REC, i % 100, 1 + rnd.nextInt(6), 25, 3, dd, hh, mi, ss);
+		}
+		return payload;
+	}
+
+	private static void put(byte[] b, int off, int seq, int type, int yy, int mm, int dd, int hh, int mi, int ss) {
+		b[off] = (byte) seq;
+		b[off + 1] = (byte) type;
+		b[off + 2] = (byte) yy;
+		b[off + 3] = (byte) mm;
+		b[off + 4] = (byte) dd;
+		b[off + 5] = 1;
+		b[off + 6] = (byte) hh;
+		b[off + 7] = (byte) mi;
+		b[off + 8] = (byte) ss;
+	}
+}
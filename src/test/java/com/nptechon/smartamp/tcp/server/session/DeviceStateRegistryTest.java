@@ -0,0 +1,166 @@
+package com.nptechon.smartamp.tcp.server.session;
+
+import com.nptechon.smartamp.global.config.DeviceStateProperties;
+import com.nptechon.smartamp.tcp.server.session.DeviceStateRegistry.State;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeviceStateRegistryTest {
+
+	private static final int AMP = 7;
+
+	private DeviceStateProperties props;
+	private DeviceStateRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		props = new DeviceStateProperties();
+		registry = new DeviceStateRegistry(props, new TcpSessionManager());
+	}
+
+	@Test
+	void fileBroadcastGoesThroughAllStates() {
+		assertEquals(State.IDLE, registry.state(AMP));
+
+		assertTrue(registry.tryBeginHandshake(AMP));
+		assertEquals(State.HANDSHAKING, registry.state(AMP));
+		assertFalse(registry.tryBeginHandshake(AMP));
+
+		registry.awaitTransfer(AMP);
+		assertTrue(registry.tryBeginTransfer(AMP));
+		assertEquals(State.TRANSFERRING, registry.state(AMP));
+		assertFalse(registry.tryBeginTransfer(AMP));
+
+		// 전송 중 길이 확정 → 상태는 유지, 종료 시각만 기록
+		long before = System.currentTimeMillis();
+		registry.markPlaying(AMP, 60_000, 2);
+		assertEquals(State.TRANSFERRING, registry.state(AMP));
+		assertTrue(registry.expectedFreeAtMs(AMP) >= before + 120_000);
+
+		registry.endTransfer(AMP);
+		assertEquals(State.PLAYING, registry.state(AMP));
+		assertFalse(registry.tryBeginHandshake(AMP));
+		assertFalse(registry.tryBeginTransfer(AMP));
+	}
+
+	@Test
+	void endTransferWithoutDurationGoesIdle() {
+		assertTrue(registry.tryBeginTransfer(AMP));
+		registry.endTransfer(AMP);
+
+		assertEquals(State.IDLE, registry.state(AMP));
+		assertEquals(0, registry.expectedFreeAtMs(AMP));
+	}
+
+	@Test
+	void handshakeExpiresToIdle() throws InterruptedException {
+		props.setHandshakeHoldMs(20);
+
+		assertTrue(registry.tryBeginHandshake(AMP));
+		assertFalse(registry.tryBeginHandshake(AMP));
+
+		Thread.sleep(40);
+		assertEquals(State.IDLE, registry.state(AMP));
+		assertTrue(registry.tryBeginHandshake(AMP));
+	}
+
+	@Test
+	void playingExpiresToIdle() throws InterruptedException {
+		registry.markPlaying(AMP, 20, 1);
+		assertEquals(State.PLAYING, registry.state(AMP));
+
+		Thread.sleep(40);
+		assertEquals(State.IDLE, registry.state(AMP));
+		assertEquals(0, registry.expectedFreeAtMs(AMP));
+		assertTrue(registry.tryBeginHandshake(AMP));
+	}
+
+	@Test
+	void releaseClearsHandshake() {
+		assertTrue(registry.tryBeginHandshake(AMP));
+		registry.release(AMP);
+
+		assertEquals(State.IDLE, registry.state(AMP));
+		assertTrue(registry.tryBeginHandshake(AMP));
+	}
+
+	@Test
+	void indexStartIsEstimateOnlyAndNeverRejects() {
+		props.setIndexDurationMs(60_000L);
+
+		long before = System.currentTimeMillis();
+		assertTrue(registry.tryBeginHandshake(AMP));
+		registry.indexStarted(AMP, 3);
+
+		assertEquals(State.IDLE, registry.state(AMP));
+		assertTrue(registry.expectedFreeAtMs(AMP) >= before + 180_000);
+		assertTrue(registry.tryBeginHandshake(AMP));
+
+		// 재접속하면 추정치도 버림
+		registry.onBind(AMP, null);
+		assertEquals(0, registry.expectedFreeAtMs(AMP));
+	}
+
+	@Test
+	void infiniteRepeatCountsOnce() {
+		long before = System.currentTimeMillis();
+		registry.markPlaying(AMP, 60_000, 0xFF);
+
+		long until = registry.expectedFreeAtMs(AMP);
+		assertTrue(until >= before + 60_000 && until < before + 120_000, "until=" + until);
+	}
+
+	@Test
+	void deviceBusyHoldsBrieflyButKeepsTransfer() throws InterruptedException {
+		props.setBusyHoldMs(20);
+
+		registry.deviceBusy(AMP);
+		assertEquals(State.PLAYING, registry.state(AMP));
+		assertFalse(registry.tryBeginHandshake(AMP));
+
+		Thread.sleep(40);
+		assertTrue(registry.tryBeginHandshake(AMP));
+
+		registry.release(AMP);
+		assertTrue(registry.tryBeginTransfer(AMP));
+		registry.deviceBusy(AMP);
+		assertEquals(State.TRANSFERRING, registry.state(AMP));
+	}
+
+	@Test
+	void playingIsIdleWhenRejectWhilePlayingDisabled() {
+		props.setRejectWhilePlaying(false);
+
+		registry.markPlaying(AMP, 60_000, 1);
+		assertEquals(State.IDLE, registry.state(AMP));
+		assertTrue(registry.expectedFreeAtMs(AMP) > 0);
+		assertTrue(registry.tryBeginHandshake(AMP));
+	}
+
+	@Test
+	void disabledNeverRejects() {
+		props.setEnabled(false);
+
+		assertTrue(registry.tryBeginHandshake(AMP));
+		assertTrue(registry.tryBeginHandshake(AMP));
+
+		assertTrue(registry.tryBeginTransfer(AMP));
+		assertTrue(registry.tryBeginTransfer(AMP));
+		assertEquals(State.TRANSFERRING, registry.state(AMP));
+	}
+
+	@Test
+	void unbindKeepsTransferButResetsOthers() {
+		assertTrue(registry.tryBeginTransfer(AMP));
+		registry.onUnbind(AMP, null);
+		assertEquals(State.TRANSFERRING, registry.state(AMP));
+
+		registry.markPlaying(AMP + 1, 60_000, 1);
+		registry.onUnbind(AMP + 1, null);
+		assertEquals(State.IDLE, registry.state(AMP + 1));
+	}
+}